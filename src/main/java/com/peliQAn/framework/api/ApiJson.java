@@ -0,0 +1,88 @@
+package com.peliQAn.framework.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared JSON mapping for all API clients and RestAssured itself.
+ * One configured ObjectMapper, with readers cached per target type, parses bodies straight
+ * from the response stream instead of decoding them to a String first.
+ */
+public final class ApiJson {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    private static final ObjectReader MAP_READER = MAPPER.readerFor(new TypeReference<Map<String, Object>>() {});
+    private static final ObjectReader MAP_LIST_READER = MAPPER.readerFor(new TypeReference<List<Map<String, Object>>>() {});
+    private static final Map<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private ApiJson() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static <T> T read(Response response, Class<T> type) {
+        return read(response, reader(MAPPER.constructType(type)));
+    }
+
+    public static <T> List<T> readList(Response response, Class<T> elementType) {
+        return read(response, reader(MAPPER.getTypeFactory().constructCollectionType(List.class, elementType)));
+    }
+
+    public static Map<String, Object> readMap(Response response) {
+        return read(response, MAP_READER);
+    }
+
+    public static List<Map<String, Object>> readMapList(Response response) {
+        return read(response, MAP_LIST_READER);
+    }
+
+    /**
+     * Serialize a request body
+     */
+    public static byte[] write(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize request body", e);
+        }
+    }
+
+    static ObjectReader readerFor(Class<?> type) {
+        return reader(MAPPER.constructType(type));
+    }
+
+    private static ObjectReader reader(JavaType type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    private static <T> T read(Response response, ObjectReader reader) {
+        try (InputStream body = response.getBody().asInputStream()) {
+            return reader.readValue(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not parse response body", e);
+        }
+    }
+}
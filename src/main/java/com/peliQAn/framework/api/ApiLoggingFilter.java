@@ -0,0 +1,140 @@
+package com.peliQAn.framework.api;
+
+import com.peliQAn.framework.config.PropertyManager;
+import io.qameta.allure.Allure;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request/response logging policy for API calls.
+ * Failed calls (status 400 and above, or an exception) are always logged and attached to Allure
+ * with their full bodies; successful calls are logged one in N with bodies capped in size and a hash
+ * of the full content. Log lines are written by a background thread.
+ */
+@Slf4j
+public final class ApiLoggingFilter implements OrderedFilter {
+
+    private static final ApiLoggingFilter INSTANCE = new ApiLoggingFilter();
+
+    private final int sampleRate;
+    private final int maxBodyChars;
+    private final AsyncLogWriter writer;
+    private final AtomicLong successCount = new AtomicLong();
+
+    private ApiLoggingFilter() {
+        PropertyManager properties = PropertyManager.getInstance();
+        this.sampleRate = properties.getIntProperty("api.log.sampleRate", 10);
+        this.maxBodyChars = properties.getIntProperty("api.log.maxBodyChars", 2048);
+        this.writer = new AsyncLogWriter(properties.getIntProperty("api.log.queueCapacity", 1000));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.flush(2, TimeUnit.SECONDS)));
+    }
+
+    /**
+     * The shared filter
+     */
+    public static ApiLoggingFilter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Run after filters that change the request, so the logged request includes what they added
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            String message = describeRequest(requestSpec, false) + "\nFailed: " + e;
+            writer.warn(message);
+            attach(requestSpec, message);
+            throw e;
+        }
+
+        if (response.getStatusCode() >= 400) {
+            String message = describeRequest(requestSpec, false) + "\n" + describeResponse(response, false);
+            writer.warn(message);
+            attach(requestSpec, message);
+        } else if (sampleRate > 0 && successCount.getAndIncrement() % sampleRate == 0) {
+            writer.info(describeRequest(requestSpec, true) + "\n" + describeResponse(response, true));
+        }
+        return response;
+    }
+
+    /**
+     * Number of log lines dropped because the writer could not keep up
+     */
+    public long getDroppedCount() {
+        return writer.getDroppedCount();
+    }
+
+    private String describeRequest(FilterableRequestSpecification requestSpec, boolean capBody) {
+        StringBuilder text = new StringBuilder();
+        text.append(requestSpec.getMethod()).append(' ').append(requestSpec.getURI());
+        for (Header header : requestSpec.getHeaders()) {
+            text.append("\n  ").append(header.getName()).append(": ")
+                    .append("Authorization".equalsIgnoreCase(header.getName()) ? "***" : header.getValue());
+        }
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            String bodyText = String.valueOf(body);
+            text.append("\nRequest body: ").append(capBody ? truncate(bodyText) : bodyText);
+        }
+        return text.toString();
+    }
+
+    private String describeResponse(Response response, boolean capBody) {
+        String body = response.asString();
+        return "Status " + response.getStatusCode() + " in " + response.getTime() + " ms"
+                + "\nResponse body: " + (capBody ? truncate(body) : body);
+    }
+
+    /**
+     * Cap the body at the configured size; longer bodies keep their length and hash for comparison
+     */
+    private String truncate(String body) {
+        if (body == null || body.length() <= maxBodyChars) {
+            return body;
+        }
+        return body.substring(0, maxBodyChars) + "... [" + body.length() + " chars, sha256 " + hash(body) + "]";
+    }
+
+    private static String hash(String body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return "unavailable";
+        }
+    }
+
+    private static void attach(FilterableRequestSpecification requestSpec, String message) {
+        try {
+            Allure.addAttachment(requestSpec.getMethod() + " " + requestSpec.getURI(), "text/plain", message, ".txt");
+        } catch (RuntimeException e) {
+            log.debug("Could not attach API call to Allure: {}", e.getMessage());
+        }
+    }
+}
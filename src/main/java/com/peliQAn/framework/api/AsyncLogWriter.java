@@ -0,0 +1,94 @@
+package com.peliQAn.framework.api;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes log messages on a background thread so test threads never wait for log I/O.
+ * The queue is bounded; when it is full new messages are dropped and counted instead of blocking.
+ */
+@Slf4j
+class AsyncLogWriter {
+
+    private final BlockingQueue<Entry> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private static final class Entry {
+        private final boolean warning;
+        private final String message;
+
+        private Entry(boolean warning, String message) {
+            this.warning = warning;
+            this.message = message;
+        }
+    }
+
+    AsyncLogWriter(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Thread writer = new Thread(this::drain, "api-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    void info(String message) {
+        offer(new Entry(false, message));
+    }
+
+    void warn(String message) {
+        offer(new Entry(true, message));
+    }
+
+    private void offer(Entry entry) {
+        if (!queue.offer(entry)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Wait until queued messages are written, e.g. before the JVM exits
+     */
+    void flush(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!queue.isEmpty() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        long reportedDrops = 0;
+        while (true) {
+            try {
+                Entry entry = queue.take();
+                if (entry.warning) {
+                    log.warn(entry.message);
+                } else {
+                    log.info(entry.message);
+                }
+                long dropped = droppedCount.get();
+                if (dropped > reportedDrops) {
+                    log.warn("Dropped {} API log messages, the log writer could not keep up", dropped - reportedDrops);
+                    reportedDrops = dropped;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Keep writing even if one message fails to format
+                log.debug("Could not write API log message", e);
+            }
+        }
+    }
+}
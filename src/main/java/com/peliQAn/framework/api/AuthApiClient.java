@@ -1,5 +1,6 @@
 package com.peliQAn.framework.api;
 
+import com.peliQAn.framework.api.model.Credentials;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,15 @@ public class AuthApiClient extends BaseApiClient {
         return post(REGISTER_ENDPOINT, userData);
     }
 
+    /**
+     * Register a new user from typed credentials
+     */
+    @Step("Register new user with username: {credentials.username}")
+    public Response registerUser(Credentials credentials) {
+        log.info("Registering new user: {}, {}", credentials.getUsername(), credentials.getEmail());
+        return post(REGISTER_ENDPOINT, credentials);
+    }
+
     /**
      * Login user
      */
@@ -47,6 +57,14 @@ public class AuthApiClient extends BaseApiClient {
         return post(LOGIN_ENDPOINT, loginData);
     }
 
+    /**
+     * Login user with typed credentials; the email is not sent
+     */
+    @Step("Login user with username: {credentials.username}")
+    public Response login(Credentials credentials) {
+        return login(credentials.getUsername(), credentials.getPassword());
+    }
+
     /**
      * Refresh authentication token
      */
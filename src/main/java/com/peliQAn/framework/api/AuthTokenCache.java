@@ -0,0 +1,228 @@
+package com.peliQAn.framework.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.peliQAn.framework.config.PropertyManager;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of auth tokens by username.
+ * Expiry is read from the JWT exp claim. Tokens close to expiry are refreshed in the background
+ * through /auth/refresh while the current one is still handed out; expired tokens are refreshed
+ * (or re-obtained by login) before returning. Only one login or refresh per user runs at a time,
+ * concurrent callers wait for its result.
+ */
+@Slf4j
+public final class AuthTokenCache {
+
+    private static final AuthTokenCache INSTANCE = new AuthTokenCache();
+
+    private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Credentials> credentials = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedToken>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "auth-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AuthApiClient authApiClient = new AuthApiClient();
+    private final Duration refreshAhead;
+    private final Duration defaultLifetime;
+    private volatile String sharedUsername;
+
+    private static final class CachedToken {
+        private final String token;
+        private final String refreshToken;
+        private final Instant expiresAt;
+
+        private CachedToken(String token, String refreshToken, Instant expiresAt) {
+            this.token = token;
+            this.refreshToken = refreshToken;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Credentials {
+        private final String password;
+
+        private Credentials(String password) {
+            this.password = password;
+        }
+    }
+
+    private AuthTokenCache() {
+        PropertyManager properties = PropertyManager.getInstance();
+        this.refreshAhead = Duration.ofSeconds(properties.getIntProperty("api.auth.refreshAheadSeconds", 60));
+        this.defaultLifetime = Duration.ofSeconds(properties.getIntProperty("api.auth.defaultTokenLifetimeSeconds", 900));
+    }
+
+    public static AuthTokenCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Valid token for the user, logging in with the password if there is none yet
+     */
+    public String getToken(String username, String password) {
+        credentials.put(username, new Credentials(password));
+        return getToken(username);
+    }
+
+    /**
+     * Valid token for a user whose credentials the cache already knows
+     */
+    public String getToken(String username) {
+        CachedToken cached = tokens.get(username);
+        Instant now = Instant.now();
+        if (cached != null && now.isBefore(cached.expiresAt.minus(refreshAhead))) {
+            return cached.token;
+        }
+        if (cached != null && now.isBefore(cached.expiresAt)) {
+            // Still valid: hand it out and refresh in the background
+            if (inFlight.containsKey(username)) {
+                return cached.token;
+            }
+            refresher.execute(() -> {
+                try {
+                    singleFlight(username, () -> renew(username, cached));
+                } catch (RuntimeException e) {
+                    log.warn("Background token refresh for {} failed: {}", username, e.getMessage());
+                }
+            });
+            return cached.token;
+        }
+        return singleFlight(username, () -> renew(username, cached)).token;
+    }
+
+    /**
+     * Token of one test user registered once per process and shared by all scenarios
+     */
+    public String getSharedUserToken() {
+        return getToken(getSharedUsername());
+    }
+
+    /**
+     * Name of the shared test user, registering it on first use
+     */
+    public String getSharedUsername() {
+        if (sharedUsername == null) {
+            synchronized (this) {
+                if (sharedUsername == null) {
+                    String username = "shareduser_" + System.currentTimeMillis();
+                    String password = "Password123";
+                    Response response = authApiClient.registerUser(username, username + "@example.com", password);
+                    if (response.getStatusCode() != 201) {
+                        throw new IllegalStateException("Could not register shared test user, status "
+                                + response.getStatusCode());
+                    }
+                    credentials.put(username, new Credentials(password));
+                    sharedUsername = username;
+                    log.info("Registered shared test user: {}", username);
+                }
+            }
+        }
+        return sharedUsername;
+    }
+
+    /**
+     * Drop the cached token of a user, e.g. after the server rejected it
+     */
+    public void invalidate(String username) {
+        tokens.remove(username);
+    }
+
+    /**
+     * Run the loader unless a load for the user is already running, in which case wait for that one
+     */
+    private CachedToken singleFlight(String username, Supplier<CachedToken> loader) {
+        CompletableFuture<CachedToken> mine = new CompletableFuture<>();
+        CompletableFuture<CachedToken> running = inFlight.putIfAbsent(username, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        try {
+            CachedToken token = loader.get();
+            tokens.put(username, token);
+            mine.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(username, mine);
+        }
+    }
+
+    /**
+     * Refresh the token if possible, log in again otherwise
+     */
+    private CachedToken renew(String username, CachedToken previous) {
+        // Another thread may have renewed it while this one waited
+        CachedToken current = tokens.get(username);
+        if (current != null && current != previous && Instant.now().isBefore(current.expiresAt.minus(refreshAhead))) {
+            return current;
+        }
+        if (previous != null && previous.refreshToken != null) {
+            Response response = authApiClient.refreshToken(previous.refreshToken);
+            if (response.getStatusCode() == 200) {
+                log.debug("Refreshed token for {}", username);
+                return toCachedToken(response, previous.refreshToken);
+            }
+            log.warn("Token refresh for {} failed with status {}, logging in again", username, response.getStatusCode());
+        }
+        Credentials known = credentials.get(username);
+        if (known == null) {
+            throw new IllegalStateException("No credentials known for user: " + username);
+        }
+        Response response = authApiClient.login(username, known.password);
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Login for " + username + " failed with status " + response.getStatusCode());
+        }
+        log.debug("Logged in {} for a new token", username);
+        return toCachedToken(response, null);
+    }
+
+    private CachedToken toCachedToken(Response response, String previousRefreshToken) {
+        String token = response.jsonPath().getString("token");
+        if (token == null) {
+            throw new IllegalStateException("Auth response has no token");
+        }
+        String refreshToken = response.jsonPath().getString("refreshToken");
+        return new CachedToken(token, refreshToken != null ? refreshToken : previousRefreshToken, expiryOf(token));
+    }
+
+    /**
+     * Expiry from the exp claim of a JWT; tokens that are not JWTs get the default lifetime
+     */
+    Instant expiryOf(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length == 3) {
+            try {
+                JsonNode claims = ApiJson.mapper().readTree(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+                JsonNode exp = claims.get("exp");
+                if (exp != null && exp.canConvertToLong()) {
+                    return Instant.ofEpochSecond(exp.asLong());
+                }
+            } catch (Exception e) {
+                log.debug("Could not read token expiry: {}", e.getMessage());
+            }
+        }
+        return Instant.now().plus(defaultLifetime);
+    }
+}
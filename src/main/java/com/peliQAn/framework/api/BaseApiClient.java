@@ -1,20 +1,31 @@
 package com.peliQAn.framework.api;
 
+import com.peliQAn.framework.api.async.AsyncHttpEngine;
 import com.peliQAn.framework.config.PropertyManager;
 import io.qameta.allure.Step;
-import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 /**
@@ -28,6 +39,8 @@ public abstract class BaseApiClient {
     protected final int retryDelayMs;
     protected final RequestSpecification requestSpec;
     protected final ResponseSpecification responseSpec;
+    private volatile String cachedTokenUser;
+    private volatile HttpCacheFilter httpCache;
 
     protected BaseApiClient() {
         PropertyManager propertyManager = PropertyManager.getInstance();
@@ -36,21 +49,28 @@ public abstract class BaseApiClient {
         this.retryCount = propertyManager.getIntProperty("api.retryCount", 3);
         this.retryDelayMs = propertyManager.getIntProperty("api.retryDelayMs", 1000);
 
-        // Set up base request specification
-        this.requestSpec = new RequestSpecBuilder()
-                .setBaseUri(baseUrl)
+        // Specs are built once per process and only ever merged into new requests
+        this.requestSpec = SharedSpecs.REQUEST_SPEC;
+        this.responseSpec = SharedSpecs.RESPONSE_SPEC;
+
+        log.debug("Initialized API client with base URL: {}", baseUrl);
+    }
+
+    /**
+     * Request and response specifications shared by all clients, built on first use
+     */
+    private static final class SharedSpecs {
+        private static final RequestSpecification REQUEST_SPEC = new RequestSpecBuilder()
+                .setBaseUri(PropertyManager.getInstance().getProperty("api.baseUrl"))
                 .setContentType(ContentType.JSON)
-                .addFilter(new AllureRestAssured())
-                .log(LogDetail.ALL)
+                .setConfig(HttpEngine.config())
+                .addFilter(ApiLoggingFilter.getInstance())
+                .addFilter(LatencyHistogramFilter.getInstance())
                 .build();
 
-        // Set up base response specification
-        this.responseSpec = new ResponseSpecBuilder()
+        private static final ResponseSpecification RESPONSE_SPEC = new ResponseSpecBuilder()
                 .expectContentType(ContentType.JSON)
-                .log(LogDetail.ALL)
                 .build();
-        
-        log.info("Initialized API client with base URL: {}", baseUrl);
     }
 
     /**
@@ -62,8 +82,7 @@ public abstract class BaseApiClient {
     @Step("Send GET request to {endpoint}")
     protected Response get(String endpoint) {
         log.info("Sending GET request to: {}{}", baseUrl, endpoint);
-        return RestAssured.given()
-                .spec(requestSpec)
+        return given()
                 .when()
                 .get(endpoint)
                 .then()
@@ -82,8 +101,7 @@ public abstract class BaseApiClient {
     @Step("Send GET request to {endpoint} with query parameters")
     protected Response get(String endpoint, Map<String, Object> queryParams) {
         log.info("Sending GET request to: {}{} with query parameters: {}", baseUrl, endpoint, queryParams);
-        return RestAssured.given()
-                .spec(requestSpec)
+        return given()
                 .queryParams(queryParams)
                 .when()
                 .get(endpoint)
@@ -103,8 +121,7 @@ public abstract class BaseApiClient {
     @Step("Send POST request to {endpoint}")
     protected Response post(String endpoint, Object requestBody) {
         log.info("Sending POST request to: {}{}", baseUrl, endpoint);
-        return RestAssured.given()
-                .spec(requestSpec)
+        return given()
                 .body(requestBody)
                 .when()
                 .post(endpoint)
@@ -124,8 +141,7 @@ public abstract class BaseApiClient {
     @Step("Send PUT request to {endpoint}")
     protected Response put(String endpoint, Object requestBody) {
         log.info("Sending PUT request to: {}{}", baseUrl, endpoint);
-        return RestAssured.given()
-                .spec(requestSpec)
+        return given()
                 .body(requestBody)
                 .when()
                 .put(endpoint)
@@ -145,8 +161,7 @@ public abstract class BaseApiClient {
     @Step("Send PATCH request to {endpoint}")
     protected Response patch(String endpoint, Object requestBody) {
         log.info("Sending PATCH request to: {}{}", baseUrl, endpoint);
-        return RestAssured.given()
-                .spec(requestSpec)
+        return given()
                 .body(requestBody)
                 .when()
                 .patch(endpoint)
@@ -165,8 +180,7 @@ public abstract class BaseApiClient {
     @Step("Send DELETE request to {endpoint}")
     protected Response delete(String endpoint) {
         log.info("Sending DELETE request to: {}{}", baseUrl, endpoint);
-        return RestAssured.given()
-                .spec(requestSpec)
+        return given()
                 .when()
                 .delete(endpoint)
                 .then()
@@ -175,6 +189,51 @@ public abstract class BaseApiClient {
                 .response();
     }
 
+    /**
+     * Take auth tokens for this client from the shared AuthTokenCache, so they are refreshed
+     * when needed and shared with other clients of the same user
+     */
+    public void useCachedToken(String username) {
+        this.cachedTokenUser = username;
+    }
+
+    /**
+     * Token for the next request: from the cache if the client uses it, the explicit token otherwise
+     */
+    protected String resolveAuthToken(String explicitToken) {
+        String username = cachedTokenUser;
+        return username != null ? AuthTokenCache.getInstance().getToken(username) : explicitToken;
+    }
+
+    /**
+     * Cache GET responses of this client, revalidating them with conditional requests.
+     * Writes through this client invalidate the cached entries of the collection they change.
+     */
+    public void enableHttpCache() {
+        enableHttpCache(PropertyManager.getInstance().getIntProperty("api.cache.maxBytes", 8 * 1024 * 1024));
+    }
+
+    public void enableHttpCache(long maxBytes) {
+        this.httpCache = new HttpCacheFilter(maxBytes);
+        log.info("Enabled HTTP cache with a budget of {} bytes", maxBytes);
+    }
+
+    /**
+     * Cache of this client, null unless enabled
+     */
+    public HttpCacheFilter getHttpCache() {
+        return httpCache;
+    }
+
+    /**
+     * New request from the shared specification, through the cache if this client has one
+     */
+    protected RequestSpecification given() {
+        RequestSpecification request = RestAssured.given().spec(requestSpec);
+        HttpCacheFilter cache = httpCache;
+        return cache != null ? request.filter(cache) : request;
+    }
+
     /**
      * Create custom request specification with authentication
      *
@@ -182,11 +241,56 @@ public abstract class BaseApiClient {
      * @return RequestSpecification
      */
     protected RequestSpecification getAuthSpec(String token) {
-        return RestAssured.given()
-                .spec(requestSpec)
+        return given()
                 .header("Authorization", "Bearer " + token);
     }
 
+    /**
+     * GET a JSON array and read it lazily, element by element, instead of buffering the whole body.
+     * Goes through the shared java.net.http client, so it bypasses the HTTP cache and the logging filter
+     * even when this client uses them; latency is recorded by the engine up to the response headers.
+     *
+     * @param endpoint API endpoint
+     * @param token Authentication token, or null
+     * @param type Element type
+     * @return Open array stream; close it when done unless it is read to the end
+     */
+    protected <T> JsonArrayStream<T> streamArray(String endpoint, String token, Class<T> type) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                .header("Accept", "application/json")
+                .GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        CompletableFuture<HttpResponse<InputStream>> pending = AsyncHttpEngine.getInstance().openStream(request);
+        HttpResponse<InputStream> response;
+        try {
+            response = pending.get(timeout, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            pending.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while requesting " + endpoint, e);
+        } catch (TimeoutException e) {
+            // The engine closes the body if it arrives after all, so the connection is not held
+            pending.cancel(true);
+            throw new IllegalStateException("No response from " + endpoint + " within " + timeout + " s", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not request " + endpoint, e.getCause());
+        }
+
+        if (response.statusCode() != 200) {
+            try (InputStream body = response.body()) {
+                throw new IllegalStateException("Streaming " + endpoint + " failed with status " + response.statusCode()
+                        + ": " + new String(body.readNBytes(512), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        log.debug("Streaming JSON array from {}", endpoint);
+        return JsonArrayStream.of(response.body(), type);
+    }
+
     /**
      * Get response time in specified time unit
      *
@@ -222,12 +326,14 @@ public abstract class BaseApiClient {
     protected Response uploadFile(String endpoint, String filePath, String fileParameterName) {
         log.info("Uploading file to: {}{}", baseUrl, endpoint);
         return RestAssured.given()
+                .config(HttpEngine.config())
+                .filter(ApiLoggingFilter.getInstance())
+                .filter(LatencyHistogramFilter.getInstance())
                 .contentType("multipart/form-data")
                 .multiPart(fileParameterName, new File(filePath))
                 .when()
                 .post(endpoint)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -243,7 +349,11 @@ public abstract class BaseApiClient {
     @Step("Upload multiple files to {endpoint}")
     protected Response uploadMultipleFiles(String endpoint, List<String> filePaths, String fileParameterName) {
         log.info("Uploading multiple files to: {}{}", baseUrl, endpoint);
-        RequestSpecification request = RestAssured.given().contentType("multipart/form-data");
+        RequestSpecification request = RestAssured.given()
+                .config(HttpEngine.config())
+                .filter(ApiLoggingFilter.getInstance())
+                .filter(LatencyHistogramFilter.getInstance())
+                .contentType("multipart/form-data");
         
         for (String filePath : filePaths) {
             request.multiPart(fileParameterName, new File(filePath));
@@ -253,7 +363,6 @@ public abstract class BaseApiClient {
                 .when()
                 .post(endpoint)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -0,0 +1,285 @@
+package com.peliQAn.framework.api;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.Value;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side HTTP cache for GET requests of one API client.
+ * Responses with a validator (ETag or Last-Modified) or a max-age are kept in an LRU bounded by body bytes.
+ * Fresh entries are served without a request, stale ones are revalidated with If-None-Match or
+ * If-Modified-Since and served from the cache on 304. Successful writes through the same client
+ * drop every entry of the resource collection they touched.
+ */
+public final class HttpCacheFilter implements OrderedFilter {
+
+    private static final Totals TOTALS = new Totals();
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder freshHits = new LongAdder();
+    private final LongAdder revalidatedHits = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    private static final class Entry {
+        private final String resource;
+        private final int statusCode;
+        private final String statusLine;
+        private final Headers headers;
+        private final String contentType;
+        private final byte[] body;
+        private final String etag;
+        private final String lastModified;
+        private final long freshUntilNanos;
+
+        private Entry(String resource, Response response, byte[] body, long freshUntilNanos) {
+            this.resource = resource;
+            this.statusCode = response.getStatusCode();
+            this.statusLine = response.getStatusLine();
+            this.headers = response.getHeaders();
+            this.contentType = response.getContentType();
+            this.body = body;
+            this.etag = response.getHeader("ETag");
+            this.lastModified = response.getHeader("Last-Modified");
+            this.freshUntilNanos = freshUntilNanos;
+        }
+
+        private boolean isFresh() {
+            return System.nanoTime() - freshUntilNanos < 0;
+        }
+
+        private Response toResponse() {
+            return new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setStatusLine(statusLine)
+                    .setHeaders(headers)
+                    .setContentType(contentType)
+                    .setBody(body)
+                    .build();
+        }
+    }
+
+    /**
+     * Cache usage; a hit is a GET answered from the cache, with or without revalidation
+     */
+    @Value
+    public static class Stats {
+        long requests;
+        long freshHits;
+        long revalidatedHits;
+        long bytesSaved;
+
+        public long getHits() {
+            return freshHits + revalidatedHits;
+        }
+
+        public double getHitRate() {
+            return requests == 0 ? 0 : (double) getHits() / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d GETs, %d hits (%.1f%%, %d revalidated), %d body bytes not transferred",
+                    requests, getHits(), getHitRate() * 100, revalidatedHits, bytesSaved);
+        }
+    }
+
+    /**
+     * Usage of all caches of the process
+     */
+    private static final class Totals {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder freshHits = new LongAdder();
+        private final LongAdder revalidatedHits = new LongAdder();
+        private final LongAdder bytesSaved = new LongAdder();
+    }
+
+    public HttpCacheFilter(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Run outermost, so fresh hits skip logging and latency recording like they skip the network
+     */
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String resource = resourceOf(requestSpec.getUserDefinedPath());
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            if (response.getStatusCode() < 400) {
+                invalidate(resource);
+            }
+            return response;
+        }
+
+        count(requests, TOTALS.requests);
+        // Responses differ per user, so the token is part of the key
+        String key = requestSpec.getURI() + " " + requestSpec.getHeaders().getValue("Authorization");
+        Entry cached = lookup(key);
+        if (cached != null && cached.isFresh()) {
+            count(freshHits, TOTALS.freshHits);
+            countBytes(cached.body.length);
+            return cached.toResponse();
+        }
+        if (cached != null) {
+            if (cached.etag != null) {
+                requestSpec.header("If-None-Match", cached.etag);
+            } else if (cached.lastModified != null) {
+                requestSpec.header("If-Modified-Since", cached.lastModified);
+            }
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == 304 && cached != null) {
+            count(revalidatedHits, TOTALS.revalidatedHits);
+            countBytes(cached.body.length);
+            // A 304 may carry new freshness information
+            Long maxAge = maxAgeSeconds(response.getHeader("Cache-Control"));
+            if (maxAge != null) {
+                store(key, new Entry(cached.resource, cached.toResponse(), cached.body, freshUntil(maxAge)));
+            }
+            return cached.toResponse();
+        }
+        if (response.getStatusCode() == 200) {
+            storeIfCacheable(key, resource, response);
+        }
+        return response;
+    }
+
+    private void storeIfCacheable(String key, String resource, Response response) {
+        String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-store")) {
+            return;
+        }
+        Long maxAge = maxAgeSeconds(cacheControl);
+        boolean hasValidator = response.getHeader("ETag") != null || response.getHeader("Last-Modified") != null;
+        if (maxAge == null && !hasValidator) {
+            return;
+        }
+        byte[] body = response.getBody().asByteArray();
+        if (body.length > maxBytes) {
+            return;
+        }
+        store(key, new Entry(resource, response, body, freshUntil(maxAge == null ? 0 : maxAge)));
+    }
+
+    private synchronized Entry lookup(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void store(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            bytes -= previous.body.length;
+        }
+        bytes += entry.body.length;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().body.length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Drop all entries of a resource collection, e.g. /treasures, /treasures/{id} and /treasures/search
+     */
+    public synchronized void invalidate(String resource) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.resource.equals(resource)) {
+                bytes -= entry.body.length;
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public Stats getStats() {
+        return new Stats(requests.sum(), freshHits.sum(), revalidatedHits.sum(), bytesSaved.sum());
+    }
+
+    /**
+     * Usage summed over all caches of the process
+     */
+    public static Stats totalStats() {
+        return new Stats(TOTALS.requests.sum(), TOTALS.freshHits.sum(), TOTALS.revalidatedHits.sum(),
+                TOTALS.bytesSaved.sum());
+    }
+
+    private void countBytes(long count) {
+        bytesSaved.add(count);
+        TOTALS.bytesSaved.add(count);
+    }
+
+    private static void count(LongAdder own, LongAdder total) {
+        own.increment();
+        total.increment();
+    }
+
+    private static long freshUntil(long maxAgeSeconds) {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+    }
+
+    /**
+     * max-age of a Cache-Control header; 0 when the response must be revalidated, null if not given
+     */
+    static Long maxAgeSeconds(String cacheControl) {
+        if (cacheControl == null) {
+            return null;
+        }
+        Long maxAge = null;
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            directive = directive.trim();
+            if (directive.equals("no-cache")) {
+                return 0L;
+            }
+            if (directive.startsWith("max-age=")) {
+                try {
+                    maxAge = Math.max(0, Long.parseLong(directive.substring("max-age=".length()).replace("\"", "")));
+                } catch (NumberFormatException e) {
+                    maxAge = 0L;
+                }
+            }
+        }
+        return maxAge;
+    }
+
+    /**
+     * First path segment, the collection a request belongs to
+     */
+    static String resourceOf(String path) {
+        if (path == null) {
+            return "/";
+        }
+        int query = path.indexOf('?');
+        String withoutQuery = query >= 0 ? path.substring(0, query) : path;
+        String trimmed = withoutQuery.startsWith("/") ? withoutQuery.substring(1) : withoutQuery;
+        int slash = trimmed.indexOf('/');
+        return "/" + (slash >= 0 ? trimmed.substring(0, slash) : trimmed);
+    }
+}
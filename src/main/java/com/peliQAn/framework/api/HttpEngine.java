@@ -0,0 +1,119 @@
+package com.peliQAn.framework.api;
+
+import com.peliQAn.framework.config.PropertyManager;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide HTTP engine for RestAssured.
+ * One pooled connection manager and one client are shared by all API clients and threads,
+ * so keep-alive connections are reused instead of paying TCP and TLS setup per request.
+ * RestAssured drives the legacy Apache client API, hence the deprecated client classes.
+ */
+@Slf4j
+@SuppressWarnings("deprecation")
+public final class HttpEngine {
+
+    private static final HttpEngine INSTANCE = new HttpEngine();
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final DefaultHttpClient httpClient;
+    private final RestAssuredConfig config;
+    private final ScheduledExecutorService evictor;
+
+    /**
+     * Connection pool usage
+     */
+    @Value
+    public static class Stats {
+        int leased;
+        int available;
+        int pending;
+        int max;
+    }
+
+    private HttpEngine() {
+        PropertyManager properties = PropertyManager.getInstance();
+        int maxTotal = properties.getIntProperty("api.http.maxTotal", 50);
+        int maxPerRoute = properties.getIntProperty("api.http.maxPerRoute", 20);
+        long keepAliveMs = properties.getIntProperty("api.http.keepAliveMs", 30000);
+        int connectTimeoutMs = properties.getIntProperty("api.http.connectTimeoutMs", 5000);
+        int socketTimeoutMs = properties.getIntProperty("api.timeout", 30) * 1000;
+
+        connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+        httpClient = new DefaultHttpClient(connectionManager);
+        httpClient.setKeepAliveStrategy(keepAliveStrategy(keepAliveMs));
+
+        config = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> httpClient)
+                .reuseHttpClientInstance()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, connectTimeoutMs)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, socketTimeoutMs))
+                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                        .jackson2ObjectMapperFactory((type, charset) -> ApiJson.mapper()));
+
+        // Pooled connections the server closed while idle would fail on their next use
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(keepAliveMs, TimeUnit.MILLISECONDS);
+        }, keepAliveMs, keepAliveMs, TimeUnit.MILLISECONDS);
+
+        log.info("Initialized HTTP engine: max {} connections, {} per route, keep-alive {} ms",
+                maxTotal, maxPerRoute, keepAliveMs);
+    }
+
+    /**
+     * Keep connections alive as long as the server allows, capped at the configured time
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long keepAliveMs) {
+        return (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMs) : keepAliveMs;
+        };
+    }
+
+    /**
+     * RestAssured config using the shared pooled client
+     */
+    public static RestAssuredConfig config() {
+        return INSTANCE.config;
+    }
+
+    /**
+     * Current pool usage across all routes
+     */
+    public static Stats stats() {
+        PoolStats total = INSTANCE.connectionManager.getTotalStats();
+        return new Stats(total.getLeased(), total.getAvailable(), total.getPending(), total.getMax());
+    }
+
+    /**
+     * Close all pooled connections, e.g. at the end of the suite
+     */
+    public static void shutdown() {
+        INSTANCE.evictor.shutdownNow();
+        INSTANCE.connectionManager.shutdown();
+        log.info("HTTP engine shut down");
+    }
+}
@@ -0,0 +1,204 @@
+package com.peliQAn.framework.api;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy reader of a JSON array, yielding one element at a time from the underlying stream.
+ * Only the current element is held in memory, so arrays of any size can be searched and aggregated.
+ * The source is closed at the end of the array, on close, and by the terminal helpers,
+ * which stop reading (and drop the rest of the response) as soon as their result is known.
+ */
+@Slf4j
+public final class JsonArrayStream<T> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private T next;
+    // Separate from next, since a JSON null element reads as null
+    private boolean hasBuffered;
+    private boolean done;
+
+    private JsonArrayStream(JsonParser parser, ObjectReader reader) {
+        this.parser = parser;
+        this.reader = reader;
+    }
+
+    /**
+     * Reader over a stream holding a JSON array of the given element type
+     */
+    public static <T> JsonArrayStream<T> of(InputStream body, Class<T> type) {
+        JsonParser parser = null;
+        try {
+            parser = ApiJson.mapper().getFactory().createParser(body);
+            JsonToken first = parser.nextToken();
+            if (first != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Expected a JSON array but found " + first);
+            }
+            return new JsonArrayStream<>(parser, ApiJson.readerFor(type));
+        } catch (IOException e) {
+            closeQuietly(parser, body);
+            throw new UncheckedIOException("Could not start reading JSON array", e);
+        } catch (RuntimeException e) {
+            closeQuietly(parser, body);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasBuffered) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                close();
+                return false;
+            }
+            next = reader.readValue(parser);
+            hasBuffered = true;
+            return true;
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Could not read JSON array element", e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = next;
+        next = null;
+        hasBuffered = false;
+        return element;
+    }
+
+    /**
+     * Remaining elements as a sequential stream; closing the stream closes the source
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * First remaining element matching the predicate; the rest is not read
+     */
+    public Optional<T> findFirst(Predicate<? super T> predicate) {
+        try (JsonArrayStream<T> elements = this) {
+            while (elements.hasNext()) {
+                T element = elements.next();
+                if (predicate.test(element)) {
+                    return Optional.of(element);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    public boolean anyMatch(Predicate<? super T> predicate) {
+        return findFirst(predicate).isPresent();
+    }
+
+    /**
+     * Whether all remaining elements match; reading stops at the first one that does not
+     */
+    public boolean allMatch(Predicate<? super T> predicate) {
+        return findFirst(predicate.negate()).isEmpty();
+    }
+
+    public long count() {
+        return sum(element -> 1);
+    }
+
+    /**
+     * Hand every remaining element to the action, so several checks share one pass; returns the element count
+     */
+    public long forEach(Consumer<? super T> action) {
+        return sum(element -> {
+            action.accept(element);
+            return 1;
+        });
+    }
+
+    public long sum(ToLongFunction<? super T> value) {
+        try (JsonArrayStream<T> elements = this) {
+            long sum = 0;
+            while (elements.hasNext()) {
+                sum += value.applyAsLong(elements.next());
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * First key seen twice among the remaining elements; stops reading there.
+     * Memory grows with the number of distinct keys, not with the size of the elements.
+     */
+    public <K> Optional<K> findDuplicate(Function<? super T, K> key) {
+        Set<K> seen = new HashSet<>();
+        try (JsonArrayStream<T> elements = this) {
+            while (elements.hasNext()) {
+                K current = key.apply(elements.next());
+                if (!seen.add(current)) {
+                    return Optional.of(current);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (done) {
+            return;
+        }
+        done = true;
+        next = null;
+        hasBuffered = false;
+        try {
+            // Also closes the source stream, which abandons an unfinished response
+            parser.close();
+        } catch (IOException e) {
+            log.debug("Could not close JSON array stream: {}", e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(JsonParser parser, InputStream body) {
+        try {
+            if (parser != null) {
+                parser.close();
+            } else {
+                body.close();
+            }
+        } catch (IOException e) {
+            log.debug("Could not close JSON array stream: {}", e.getMessage());
+        }
+    }
+}
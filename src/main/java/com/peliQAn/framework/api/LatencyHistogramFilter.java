@@ -0,0 +1,122 @@
+package com.peliQAn.framework.api;
+
+import com.peliQAn.framework.config.PropertyManager;
+import com.peliQAn.framework.perf.LatencyHistogram;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Records the latency of every API call into a histogram per method and endpoint template.
+ * Numeric and UUID path segments are replaced by {id}, so /treasures/17 and /treasures/42
+ * share the histogram of GET /treasures/{id}. Calls of the async engine are recorded here as well,
+ * streamed GETs up to the arrival of the response headers.
+ */
+public final class LatencyHistogramFilter implements OrderedFilter {
+
+    private static final LatencyHistogramFilter INSTANCE = new LatencyHistogramFilter();
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+    // Raw paths are cached per method; beyond this many the template is computed per sample
+    private static final int MAX_CACHED_PATHS = 10000;
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, LatencyHistogram>> histogramsByRawPath = new ConcurrentHashMap<>();
+    private final String basePath;
+
+    private LatencyHistogramFilter() {
+        String basePath = URI.create(PropertyManager.getInstance().getProperty("api.baseUrl", "")).getRawPath();
+        this.basePath = basePath == null || basePath.equals("/") ? "" : basePath;
+    }
+
+    public static LatencyHistogramFilter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Run innermost, so only the HTTP exchange is measured
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            histogramFor(requestSpec.getMethod(), requestSpec.getUserDefinedPath()).record(micros);
+        }
+    }
+
+    /**
+     * Record a call made outside RestAssured; the base path of api.baseUrl is dropped from the URI
+     * so the sample joins the histogram of the same endpoint called through a blocking client
+     */
+    public void record(String method, URI uri, long micros) {
+        String path = uri.getRawPath();
+        if (path != null && !basePath.isEmpty() && path.startsWith(basePath)) {
+            path = path.substring(basePath.length());
+        }
+        histogramFor(method, path).record(micros);
+    }
+
+    private LatencyHistogram histogramFor(String method, String path) {
+        String rawPath = path == null ? "" : path;
+        Map<String, LatencyHistogram> byRawPath = histogramsByRawPath.get(method);
+        if (byRawPath == null) {
+            byRawPath = histogramsByRawPath.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = byRawPath.get(rawPath);
+        if (histogram != null) {
+            return histogram;
+        }
+        histogram = histograms.computeIfAbsent(method + " " + template(rawPath), key -> new LatencyHistogram());
+        if (byRawPath.size() < MAX_CACHED_PATHS) {
+            byRawPath.put(rawPath, histogram);
+        }
+        return histogram;
+    }
+
+    /**
+     * Endpoint template of a path: query dropped, id segments replaced by {id}
+     */
+    static String template(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        int query = path.indexOf('?');
+        String withoutQuery = query >= 0 ? path.substring(0, query) : path;
+        return ID_SEGMENT.matcher(withoutQuery).replaceAll("/{id}");
+    }
+
+    /**
+     * Histograms recorded so far by "METHOD /endpoint/template", sorted by key
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    /**
+     * Histogram of one endpoint, empty if it was not called
+     */
+    public LatencyHistogram getHistogram(String method, String endpointTemplate) {
+        LatencyHistogram histogram = histograms.get(method + " " + endpointTemplate);
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+}
@@ -1,7 +1,7 @@
 package com.peliQAn.framework.api;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peliQAn.framework.api.model.TestCase;
+import com.peliQAn.framework.api.model.TestRun;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
@@ -21,12 +21,10 @@ public class TestCasesApiClient extends BaseApiClient {
     private static final String REPORTS_ENDPOINT = "/reports";
     private static final String STATISTICS_ENDPOINT = "/statistics";
     
-    private final ObjectMapper objectMapper;
     private String authToken;
 
     public TestCasesApiClient() {
         super();
-        this.objectMapper = new ObjectMapper();
     }
 
     /**
@@ -37,6 +35,10 @@ public class TestCasesApiClient extends BaseApiClient {
         log.info("Set authentication token for test cases API client");
     }
 
+    private String token() {
+        return resolveAuthToken(authToken);
+    }
+
     /**
      * Get all test cases
      */
@@ -44,8 +46,8 @@ public class TestCasesApiClient extends BaseApiClient {
     public Response getAllTestCases() {
         log.info("Getting all test cases");
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .when()
                     .get(TESTING_ENDPOINT)
                     .then()
@@ -63,8 +65,8 @@ public class TestCasesApiClient extends BaseApiClient {
     public Response getTestCaseById(long id) {
         log.info("Getting test case by ID: {}", id);
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .when()
                     .get(TESTING_ENDPOINT + "/" + id)
                     .then()
@@ -81,12 +83,24 @@ public class TestCasesApiClient extends BaseApiClient {
     @Step("Create new test case")
     public Response createTestCase(Map<String, Object> testCaseData) {
         log.info("Creating new test case: {}", testCaseData);
-        
-        if (authToken == null) {
+        return postTestCase(testCaseData);
+    }
+
+    /**
+     * Create new test case from a typed test case
+     */
+    @Step("Create new test case: {testCase.name}")
+    public Response createTestCase(TestCase testCase) {
+        log.info("Creating new test case: {}", testCase);
+        return postTestCase(testCase);
+    }
+
+    private Response postTestCase(Object testCaseData) {
+        if (token() == null) {
             throw new IllegalStateException("Authentication token is required to create test case");
         }
         
-        return getAuthSpec(authToken)
+        return getAuthSpec(token())
                 .body(testCaseData)
                 .when()
                 .post(TESTING_ENDPOINT)
@@ -102,11 +116,11 @@ public class TestCasesApiClient extends BaseApiClient {
     public Response updateTestCase(long id, Map<String, Object> testCaseData) {
         log.info("Updating test case with ID {}: {}", id, testCaseData);
         
-        if (authToken == null) {
+        if (token() == null) {
             throw new IllegalStateException("Authentication token is required to update test case");
         }
         
-        return getAuthSpec(authToken)
+        return getAuthSpec(token())
                 .body(testCaseData)
                 .when()
                 .put(TESTING_ENDPOINT + "/" + id)
@@ -122,11 +136,11 @@ public class TestCasesApiClient extends BaseApiClient {
     public Response deleteTestCase(long id) {
         log.info("Deleting test case with ID: {}", id);
         
-        if (authToken == null) {
+        if (token() == null) {
             throw new IllegalStateException("Authentication token is required to delete test case");
         }
         
-        return getAuthSpec(authToken)
+        return getAuthSpec(token())
                 .when()
                 .delete(TESTING_ENDPOINT + "/" + id)
                 .then()
@@ -140,12 +154,24 @@ public class TestCasesApiClient extends BaseApiClient {
     @Step("Register test run for test case ID: {testCaseId}")
     public Response registerTestRun(long testCaseId, Map<String, Object> runData) {
         log.info("Registering test run for test case ID: {}", testCaseId);
-        
-        if (authToken == null) {
+        return postTestRun(testCaseId, runData);
+    }
+
+    /**
+     * Register typed test run
+     */
+    @Step("Register test run for test case ID: {testCaseId} with status: {run.status}")
+    public Response registerTestRun(long testCaseId, TestRun run) {
+        log.info("Registering test run for test case ID: {}", testCaseId);
+        return postTestRun(testCaseId, run);
+    }
+
+    private Response postTestRun(long testCaseId, Object runData) {
+        if (token() == null) {
             throw new IllegalStateException("Authentication token is required to register test run");
         }
         
-        return getAuthSpec(authToken)
+        return getAuthSpec(token())
                 .body(runData)
                 .when()
                 .post(TESTING_ENDPOINT + "/" + testCaseId + "/run")
@@ -161,8 +187,8 @@ public class TestCasesApiClient extends BaseApiClient {
     public Response getTestCaseRuns(long testCaseId) {
         log.info("Getting runs for test case ID: {}", testCaseId);
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .when()
                     .get(TESTING_ENDPOINT + "/" + testCaseId + RUNS_ENDPOINT)
                     .then()
@@ -180,8 +206,8 @@ public class TestCasesApiClient extends BaseApiClient {
     public Response getAllTestRuns() {
         log.info("Getting all test runs");
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .when()
                     .get(TESTING_ENDPOINT + RUNS_ENDPOINT)
                     .then()
@@ -192,6 +218,15 @@ public class TestCasesApiClient extends BaseApiClient {
         }
     }
 
+    /**
+     * Stream all test runs one at a time without loading the whole list
+     */
+    @Step("Stream all test runs")
+    public JsonArrayStream<TestRun> streamAllTestRuns() {
+        log.info("Streaming all test runs");
+        return streamArray(TESTING_ENDPOINT + RUNS_ENDPOINT, token(), TestRun.class);
+    }
+
     /**
      * Generate test report
      */
@@ -199,11 +234,11 @@ public class TestCasesApiClient extends BaseApiClient {
     public Response generateTestReport(Map<String, Object> reportData) {
         log.info("Generating test report");
         
-        if (authToken == null) {
+        if (token() == null) {
             throw new IllegalStateException("Authentication token is required to generate test report");
         }
         
-        return getAuthSpec(authToken)
+        return getAuthSpec(token())
                 .body(reportData)
                 .when()
                 .post(TESTING_ENDPOINT + REPORTS_ENDPOINT)
@@ -219,8 +254,8 @@ public class TestCasesApiClient extends BaseApiClient {
     public Response getAllTestReports() {
         log.info("Getting all test reports");
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .when()
                     .get(TESTING_ENDPOINT + REPORTS_ENDPOINT)
                     .then()
@@ -238,8 +273,8 @@ public class TestCasesApiClient extends BaseApiClient {
     public Response getTestStatistics() {
         log.info("Getting test statistics");
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .when()
                     .get(TESTING_ENDPOINT + STATISTICS_ENDPOINT)
                     .then()
@@ -264,13 +299,7 @@ public class TestCasesApiClient extends BaseApiClient {
         Response response = createTestCase(testCaseData);
         
         if (response.getStatusCode() == 201) {
-            try {
-                return objectMapper.readValue(response.getBody().asString(), 
-                                             new TypeReference<Map<String, Object>>() {});
-            } catch (Exception e) {
-                log.error("Error parsing response", e);
-                return null;
-            }
+            return ApiJson.readMap(response);
         } else {
             log.error("Failed to create test case: {}", response.getStatusCode());
             return null;
@@ -285,19 +314,58 @@ public class TestCasesApiClient extends BaseApiClient {
         Response response = getAllTestCases();
         
         if (response.getStatusCode() == 200) {
-            try {
-                return objectMapper.readValue(response.getBody().asString(), 
-                                             new TypeReference<List<Map<String, Object>>>() {});
-            } catch (Exception e) {
-                log.error("Error parsing response", e);
-                return null;
-            }
+            return ApiJson.readMapList(response);
+        } else {
+            log.error("Failed to get test cases: {}", response.getStatusCode());
+            return null;
+        }
+    }
+
+    /**
+     * Get test case by ID as a typed test case, null if it cannot be retrieved
+     */
+    @Step("Get typed test case by ID: {id}")
+    public TestCase getTestCase(long id) {
+        Response response = getTestCaseById(id);
+        
+        if (response.getStatusCode() == 200) {
+            return ApiJson.read(response, TestCase.class);
+        } else {
+            log.error("Failed to get test case {}: {}", id, response.getStatusCode());
+            return null;
+        }
+    }
+
+    /**
+     * Get all test cases as typed test cases
+     */
+    @Step("Get all test cases as typed list")
+    public List<TestCase> listTestCases() {
+        Response response = getAllTestCases();
+        
+        if (response.getStatusCode() == 200) {
+            return ApiJson.readList(response, TestCase.class);
         } else {
             log.error("Failed to get test cases: {}", response.getStatusCode());
             return null;
         }
     }
 
+    /**
+     * Get runs of a test case as typed test runs
+     */
+    @Step("Get typed runs for test case ID: {testCaseId}")
+    public List<TestRun> listTestCaseRuns(long testCaseId) {
+        Response response = getTestCaseRuns(testCaseId);
+        
+        if (response.getStatusCode() == 200) {
+            return ApiJson.readList(response, TestRun.class);
+        } else {
+            log.error("Failed to get runs for test case {}: {}", testCaseId, response.getStatusCode());
+            return null;
+        }
+    }
+
     /**
      * Register test run with helper method
      */
@@ -310,13 +378,7 @@ public class TestCasesApiClient extends BaseApiClient {
         Response response = registerTestRun(testCaseId, runData);
         
         if (response.getStatusCode() == 201) {
-            try {
-                return objectMapper.readValue(response.getBody().asString(), 
-                                             new TypeReference<Map<String, Object>>() {});
-            } catch (Exception e) {
-                log.error("Error parsing response", e);
-                return null;
-            }
+            return ApiJson.readMap(response);
         } else {
             log.error("Failed to register test run: {}", response.getStatusCode());
             return null;
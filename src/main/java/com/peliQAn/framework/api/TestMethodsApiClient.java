@@ -190,12 +190,14 @@ public class TestMethodsApiClient extends BaseApiClient {
         log.info("Testing file upload: {}", filePath);
         
         return RestAssured.given()
+                .config(HttpEngine.config())
+                .filter(ApiLoggingFilter.getInstance())
+                .filter(LatencyHistogramFilter.getInstance())
                 .contentType("multipart/form-data")
                 .multiPart("file", new File(filePath))
                 .when()
                 .post(UPLOAD_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -208,6 +210,9 @@ public class TestMethodsApiClient extends BaseApiClient {
         log.info("Testing multiple file upload");
         
         RequestSpecification request = RestAssured.given()
+                .config(HttpEngine.config())
+                .filter(ApiLoggingFilter.getInstance())
+                .filter(LatencyHistogramFilter.getInstance())
                 .contentType("multipart/form-data");
         
         for (String filePath : filePaths) {
@@ -218,7 +223,6 @@ public class TestMethodsApiClient extends BaseApiClient {
                 .when()
                 .post(UPLOAD_ENDPOINT + "/multiple")
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
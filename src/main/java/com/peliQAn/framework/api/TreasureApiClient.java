@@ -1,7 +1,6 @@
 package com.peliQAn.framework.api;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peliQAn.framework.api.model.Treasure;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
@@ -17,12 +16,10 @@ import java.util.Map;
 public class TreasureApiClient extends BaseApiClient {
 
     private static final String TREASURE_ENDPOINT = "/treasures";
-    private final ObjectMapper objectMapper;
     private String authToken;
 
     public TreasureApiClient() {
         super();
-        this.objectMapper = new ObjectMapper();
     }
 
     /**
@@ -33,6 +30,10 @@ public class TreasureApiClient extends BaseApiClient {
         log.info("Set authentication token for treasure API client");
     }
 
+    private String token() {
+        return resolveAuthToken(authToken);
+    }
+
     /**
      * Get all treasures
      */
@@ -40,8 +41,8 @@ public class TreasureApiClient extends BaseApiClient {
     public Response getAllTreasures() {
         log.info("Getting all treasures");
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .when()
                     .get(TREASURE_ENDPOINT)
                     .then()
@@ -59,8 +60,8 @@ public class TreasureApiClient extends BaseApiClient {
     public Response getTreasureById(long id) {
         log.info("Getting treasure by ID: {}", id);
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .when()
                     .get(TREASURE_ENDPOINT + "/" + id)
                     .then()
@@ -77,12 +78,24 @@ public class TreasureApiClient extends BaseApiClient {
     @Step("Create new treasure")
     public Response createTreasure(Map<String, Object> treasureData) {
         log.info("Creating new treasure: {}", treasureData);
-        
-        if (authToken == null) {
+        return postTreasure(treasureData);
+    }
+
+    /**
+     * Create new treasure from a typed treasure
+     */
+    @Step("Create new treasure: {treasure.name}")
+    public Response createTreasure(Treasure treasure) {
+        log.info("Creating new treasure: {}", treasure);
+        return postTreasure(treasure);
+    }
+
+    private Response postTreasure(Object treasureData) {
+        if (token() == null) {
             throw new IllegalStateException("Authentication token is required to create treasure");
         }
         
-        return getAuthSpec(authToken)
+        return getAuthSpec(token())
                 .body(treasureData)
                 .when()
                 .post(TREASURE_ENDPOINT)
@@ -98,11 +111,11 @@ public class TreasureApiClient extends BaseApiClient {
     public Response updateTreasure(long id, Map<String, Object> treasureData) {
         log.info("Updating treasure with ID {}: {}", id, treasureData);
         
-        if (authToken == null) {
+        if (token() == null) {
             throw new IllegalStateException("Authentication token is required to update treasure");
         }
         
-        return getAuthSpec(authToken)
+        return getAuthSpec(token())
                 .body(treasureData)
                 .when()
                 .put(TREASURE_ENDPOINT + "/" + id)
@@ -118,11 +131,11 @@ public class TreasureApiClient extends BaseApiClient {
     public Response deleteTreasure(long id) {
         log.info("Deleting treasure with ID: {}", id);
         
-        if (authToken == null) {
+        if (token() == null) {
             throw new IllegalStateException("Authentication token is required to delete treasure");
         }
         
-        return getAuthSpec(authToken)
+        return getAuthSpec(token())
                 .when()
                 .delete(TREASURE_ENDPOINT + "/" + id)
                 .then()
@@ -140,8 +153,8 @@ public class TreasureApiClient extends BaseApiClient {
         Map<String, Object> queryParams = new HashMap<>();
         queryParams.put("name", name);
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .queryParams(queryParams)
                     .when()
                     .get(TREASURE_ENDPOINT + "/search")
@@ -163,8 +176,8 @@ public class TreasureApiClient extends BaseApiClient {
         Map<String, Object> queryParams = new HashMap<>();
         queryParams.put("discovered", true);
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .queryParams(queryParams)
                     .when()
                     .get(TREASURE_ENDPOINT)
@@ -186,8 +199,8 @@ public class TreasureApiClient extends BaseApiClient {
         Map<String, Object> queryParams = new HashMap<>();
         queryParams.put("discovered", false);
         
-        if (authToken != null) {
-            return getAuthSpec(authToken)
+        if (token() != null) {
+            return getAuthSpec(token())
                     .queryParams(queryParams)
                     .when()
                     .get(TREASURE_ENDPOINT)
@@ -214,13 +227,7 @@ public class TreasureApiClient extends BaseApiClient {
         Response response = createTreasure(treasureData);
         
         if (response.getStatusCode() == 201) {
-            try {
-                return objectMapper.readValue(response.getBody().asString(), 
-                                             new TypeReference<Map<String, Object>>() {});
-            } catch (Exception e) {
-                log.error("Error parsing response", e);
-                return null;
-            }
+            return ApiJson.readMap(response);
         } else {
             log.error("Failed to create treasure: {}", response.getStatusCode());
             return null;
@@ -235,13 +242,46 @@ public class TreasureApiClient extends BaseApiClient {
         Response response = getAllTreasures();
         
         if (response.getStatusCode() == 200) {
-            try {
-                return objectMapper.readValue(response.getBody().asString(), 
-                                             new TypeReference<List<Map<String, Object>>>() {});
-            } catch (Exception e) {
-                log.error("Error parsing response", e);
-                return null;
-            }
+            return ApiJson.readMapList(response);
+        } else {
+            log.error("Failed to get treasures: {}", response.getStatusCode());
+            return null;
+        }
+    }
+
+    /**
+     * Stream all treasures one at a time without loading the whole list
+     */
+    @Step("Stream all treasures")
+    public JsonArrayStream<Treasure> streamAllTreasures() {
+        log.info("Streaming all treasures");
+        return streamArray(TREASURE_ENDPOINT, token(), Treasure.class);
+    }
+
+    /**
+     * Get treasure by ID as a typed treasure, null if it cannot be retrieved
+     */
+    @Step("Get typed treasure by ID: {id}")
+    public Treasure getTreasure(long id) {
+        Response response = getTreasureById(id);
+        
+        if (response.getStatusCode() == 200) {
+            return ApiJson.read(response, Treasure.class);
+        } else {
+            log.error("Failed to get treasure {}: {}", id, response.getStatusCode());
+            return null;
+        }
+    }
+
+    /**
+     * Get all treasures as typed treasures
+     */
+    @Step("Get all treasures as typed list")
+    public List<Treasure> listTreasures() {
+        Response response = getAllTreasures();
+        
+        if (response.getStatusCode() == 200) {
+            return ApiJson.readList(response, Treasure.class);
         } else {
             log.error("Failed to get treasures: {}", response.getStatusCode());
             return null;
@@ -255,7 +295,7 @@ public class TreasureApiClient extends BaseApiClient {
     public Response discoverTreasure(long id) {
         log.info("Marking treasure as discovered: {}", id);
         
-        if (authToken == null) {
+        if (token() == null) {
             throw new IllegalStateException("Authentication token is required to discover treasure");
         }
         
@@ -267,20 +307,12 @@ public class TreasureApiClient extends BaseApiClient {
             return getTreasureResponse;
         }
         
-        try {
-            Map<String, Object> treasureData = objectMapper.readValue(
-                    getTreasureResponse.getBody().asString(),
-                    new TypeReference<Map<String, Object>>() {});
-            
-            // Update the discovered status
-            treasureData.put("discovered", true);
-            
-            // Update the treasure
-            return updateTreasure(id, treasureData);
-            
-        } catch (Exception e) {
-            log.error("Error processing treasure data", e);
-            throw new RuntimeException("Error processing treasure data", e);
-        }
+        Map<String, Object> treasureData = ApiJson.readMap(getTreasureResponse);
+        
+        // Update the discovered status
+        treasureData.put("discovered", true);
+        
+        // Update the treasure
+        return updateTreasure(id, treasureData);
     }
 }
\ No newline at end of file
@@ -0,0 +1,287 @@
+package com.peliQAn.framework.api;
+
+import com.peliQAn.framework.api.async.AsyncTreasureApiClient;
+import com.peliQAn.framework.config.PropertyManager;
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suite-wide pool of treasure fixtures owned by the shared test user.
+ * Read-only fixtures are created in parallel once and leased to any number of scenarios;
+ * mutable fixtures go to one scenario each and are replenished in the background.
+ * Everything the pool created is deleted in one parallel batch by cleanup.
+ */
+@Slf4j
+public final class TreasureFixturePool {
+
+    private static final TreasureFixturePool INSTANCE = new TreasureFixturePool();
+
+    private final AsyncTreasureApiClient client = new AsyncTreasureApiClient();
+    private final int readOnlyCount;
+    private final int mutableCount;
+    private final long timeoutSeconds;
+    private final List<Fixture> readOnly = new CopyOnWriteArrayList<>();
+    private final Map<Map<String, Object>, CompletableFuture<Fixture>> readOnlyBySpec = new ConcurrentHashMap<>();
+    private final BlockingQueue<Fixture> mutable = new LinkedBlockingQueue<>();
+    private final Set<Long> created = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableFuture<Fixture>> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger replenishing = new AtomicInteger();
+    private final AtomicInteger nextLease = new AtomicInteger();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private volatile boolean started;
+    private volatile String owner;
+
+    /**
+     * Treasure created by the pool, with its data as returned by the API
+     */
+    @Value
+    public static class Fixture {
+        long id;
+        Map<String, Object> data;
+
+        public String getName() {
+            return String.valueOf(data.get("name"));
+        }
+    }
+
+    private TreasureFixturePool() {
+        PropertyManager properties = PropertyManager.getInstance();
+        this.readOnlyCount = properties.getIntProperty("api.fixtures.readOnlyCount", 10);
+        this.mutableCount = properties.getIntProperty("api.fixtures.mutableCount", 5);
+        this.timeoutSeconds = properties.getIntProperty("api.fixtures.timeoutSeconds", 60);
+    }
+
+    public static TreasureFixturePool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Create the read-only batch and start filling the mutable pool; does nothing if already started
+     */
+    @Step("Provision treasure fixtures")
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        owner = AuthTokenCache.getInstance().getSharedUsername();
+        client.useCachedToken(owner);
+        List<CompletableFuture<Fixture>> batch = new ArrayList<>(readOnlyCount);
+        for (int i = 0; i < readOnlyCount; i++) {
+            batch.add(create(generated("Fixture")));
+        }
+        readOnly.addAll(joinAll(batch));
+        started = true;
+        replenish();
+        log.info("Provisioned {} read-only treasure fixtures for {}, filling {} mutable ones",
+                readOnly.size(), owner, mutableCount);
+    }
+
+    /**
+     * User owning the fixtures; mutable fixtures can only be changed with this user's token
+     */
+    public String getOwner() {
+        ensureStarted();
+        return owner;
+    }
+
+    /**
+     * Any read-only fixture; scenarios must not change it
+     */
+    public Fixture leaseReadOnly() {
+        ensureStarted();
+        if (readOnly.isEmpty()) {
+            throw new IllegalStateException("No read-only treasure fixtures provisioned");
+        }
+        return readOnly.get(Math.floorMod(nextLease.getAndIncrement(), readOnly.size()));
+    }
+
+    /**
+     * Read-only fixture with exactly this data, created on first request and shared afterwards
+     */
+    public Fixture readOnly(Map<String, Object> treasureData) {
+        return readOnly(Collections.singletonList(treasureData)).get(0);
+    }
+
+    /**
+     * Read-only fixtures for each data set, missing ones created in parallel
+     */
+    @Step("Lease read-only treasure fixtures")
+    public List<Fixture> readOnly(List<Map<String, Object>> treasureData) {
+        ensureStarted();
+        List<CompletableFuture<Fixture>> fixtures = new ArrayList<>(treasureData.size());
+        for (Map<String, Object> data : treasureData) {
+            Map<String, Object> key = Collections.unmodifiableMap(new HashMap<>(data));
+            CompletableFuture<Fixture> fixture = readOnlyBySpec.computeIfAbsent(key, this::create);
+            // A failed creation is retried by the next request for the same data
+            fixture.whenComplete((result, error) -> {
+                if (error != null) {
+                    readOnlyBySpec.remove(key, fixture);
+                }
+            });
+            fixtures.add(fixture);
+        }
+        return joinAll(fixtures);
+    }
+
+    /**
+     * Fixture the caller may change or delete; created on the spot if the pool has run dry
+     */
+    @Step("Take mutable treasure fixture")
+    public Fixture takeMutable() {
+        ensureStarted();
+        Fixture fixture = mutable.poll();
+        replenish();
+        if (fixture == null) {
+            log.debug("Mutable fixture pool empty, creating one on demand");
+            fixture = joinAll(Collections.singletonList(create(generated("Mutable")))).get(0);
+        }
+        return fixture;
+    }
+
+    /**
+     * Delete every fixture the pool created, in parallel, and reset the pool
+     */
+    @Step("Clean up treasure fixtures")
+    public synchronized void cleanup() {
+        if (!started) {
+            return;
+        }
+        started = false;
+        awaitInFlight();
+        List<Long> ids = new ArrayList<>(created);
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> deletions = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            deletions.add(client.deleteTreasure(id).handle((response, error) -> {
+                // Mutable fixtures may already have been deleted by their scenario
+                if (error != null || (response.getStatusCode() >= 300 && response.getStatusCode() != 404)) {
+                    failed.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        try {
+            CompletableFuture.allOf(deletions.toArray(new CompletableFuture[0])).get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Treasure fixture cleanup did not finish within {} s", timeoutSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Treasure fixture cleanup failed: {}", e.getMessage());
+        }
+        readOnly.clear();
+        readOnlyBySpec.clear();
+        mutable.clear();
+        created.removeAll(ids);
+        log.info("Deleted {} treasure fixtures, {} failed", ids.size() - failed.get(), failed.get());
+    }
+
+    /**
+     * Wait for creations still running, e.g. background replenishment, so their treasures get deleted too
+     */
+    private void awaitInFlight() {
+        List<CompletableFuture<Fixture>> pending = new ArrayList<>(inFlight);
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("{} treasure fixture creations still running after {} s, they will not be deleted",
+                    inFlight.size(), timeoutSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Failed creations left nothing to delete
+        }
+    }
+
+    private void ensureStarted() {
+        if (!started) {
+            start();
+        }
+    }
+
+    /**
+     * Top the mutable pool up to its target size in the background
+     */
+    private void replenish() {
+        int missing = mutableCount - mutable.size() - replenishing.get();
+        for (int i = 0; i < missing; i++) {
+            replenishing.incrementAndGet();
+            create(generated("Mutable")).whenComplete((fixture, error) -> {
+                replenishing.decrementAndGet();
+                if (error != null) {
+                    log.warn("Could not replenish mutable treasure fixture: {}", error.getMessage());
+                } else if (started) {
+                    // After cleanup the fixture is already deleted with the rest
+                    mutable.offer(fixture);
+                }
+            });
+        }
+    }
+
+    private CompletableFuture<Fixture> create(Map<String, Object> treasureData) {
+        CompletableFuture<Fixture> fixture = client.createTreasure(treasureData).thenApply(this::toFixture);
+        inFlight.add(fixture);
+        fixture.whenComplete((result, error) -> inFlight.remove(fixture));
+        return fixture;
+    }
+
+    private Fixture toFixture(Response response) {
+        if (response.getStatusCode() != 201) {
+            throw new IllegalStateException("Could not create treasure fixture, status " + response.getStatusCode());
+        }
+        Map<String, Object> data = ApiJson.readMap(response);
+        long id = Long.parseLong(data.get("id").toString());
+        created.add(id);
+        return new Fixture(id, Collections.unmodifiableMap(data));
+    }
+
+    private Map<String, Object> generated(String kind) {
+        int number = sequence.incrementAndGet();
+        Map<String, Object> treasureData = new HashMap<>();
+        treasureData.put("name", kind + " Treasure " + number);
+        treasureData.put("value", 100 + number * 10);
+        treasureData.put("description", kind + " treasure fixture");
+        treasureData.put("location", "Fixture Island");
+        treasureData.put("discovered", false);
+        return treasureData;
+    }
+
+    private List<Fixture> joinAll(List<CompletableFuture<Fixture>> fixtures) {
+        try {
+            CompletableFuture.allOf(fixtures.toArray(new CompletableFuture[0])).get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Treasure fixtures not created within " + timeoutSeconds + " s", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating treasure fixtures", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not create treasure fixtures", e.getCause());
+        }
+        List<Fixture> result = new ArrayList<>(fixtures.size());
+        for (CompletableFuture<Fixture> fixture : fixtures) {
+            result.add(fixture.join());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package com.peliQAn.framework.api.async;
+
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking API client for authentication endpoints
+ */
+@Slf4j
+public class AsyncAuthApiClient extends AsyncBaseApiClient {
+
+    private static final String AUTH_ENDPOINT = "/auth";
+    private static final String REGISTER_ENDPOINT = AUTH_ENDPOINT + "/register";
+    private static final String LOGIN_ENDPOINT = AUTH_ENDPOINT + "/login";
+    private static final String REFRESH_ENDPOINT = AUTH_ENDPOINT + "/refresh";
+
+    @Step("Register new user asynchronously with username: {username}")
+    public CompletableFuture<Response> registerUser(String username, String email, String password) {
+        Map<String, String> userData = new HashMap<>();
+        userData.put("username", username);
+        userData.put("email", email);
+        userData.put("password", password);
+        return post(REGISTER_ENDPOINT, userData);
+    }
+
+    @Step("Login user asynchronously with username: {username}")
+    public CompletableFuture<Response> login(String username, String password) {
+        Map<String, String> loginData = new HashMap<>();
+        loginData.put("username", username);
+        loginData.put("password", password);
+        return post(LOGIN_ENDPOINT, loginData);
+    }
+
+    @Step("Refresh authentication token asynchronously")
+    public CompletableFuture<Response> refreshToken(String refreshToken) {
+        Map<String, String> refreshData = new HashMap<>();
+        refreshData.put("refreshToken", refreshToken);
+        return post(REFRESH_ENDPOINT, refreshData);
+    }
+
+    /**
+     * Login and extract token; completes with null if login fails
+     */
+    @Step("Login and extract token asynchronously for username: {username}")
+    public CompletableFuture<String> loginAndExtractToken(String username, String password) {
+        return login(username, password).thenApply(response -> {
+            if (response.getStatusCode() == 200) {
+                return response.jsonPath().getString("token");
+            }
+            log.error("Failed to login user. Status code: {}", response.getStatusCode());
+            return null;
+        });
+    }
+
+    /**
+     * Register and login; completes with null if registration fails
+     */
+    @Step("Register and login user asynchronously with username: {username}")
+    public CompletableFuture<String> registerAndLogin(String username, String email, String password) {
+        return registerUser(username, email, password).thenCompose(response -> {
+            if (response.getStatusCode() == 201) {
+                return loginAndExtractToken(username, password);
+            }
+            log.error("Failed to register user. Status code: {}", response.getStatusCode());
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+}
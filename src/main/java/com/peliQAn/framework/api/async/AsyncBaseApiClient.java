@@ -0,0 +1,122 @@
+package com.peliQAn.framework.api.async;
+
+import com.peliQAn.framework.api.ApiJson;
+import com.peliQAn.framework.api.AuthTokenCache;
+import com.peliQAn.framework.config.PropertyManager;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base class for non-blocking API clients.
+ * Mirrors BaseApiClient, but requests go through the shared AsyncHttpEngine and
+ * return futures of RestAssured responses.
+ */
+@Slf4j
+public abstract class AsyncBaseApiClient {
+
+    protected final String baseUrl;
+    protected final AsyncHttpEngine engine;
+    protected volatile String authToken;
+    private volatile String cachedTokenUser;
+
+    protected AsyncBaseApiClient() {
+        this.baseUrl = PropertyManager.getInstance().getProperty("api.baseUrl");
+        this.engine = AsyncHttpEngine.getInstance();
+    }
+
+    /**
+     * Set authentication token for subsequent requests
+     */
+    public void setAuthToken(String authToken) {
+        this.authToken = authToken;
+    }
+
+    /**
+     * Take auth tokens from the shared AuthTokenCache per request, as BaseApiClient.useCachedToken does
+     */
+    public void useCachedToken(String username) {
+        this.cachedTokenUser = username;
+    }
+
+    /**
+     * Token for the next request: from the cache if the client uses it, the explicit token otherwise
+     */
+    protected String resolveAuthToken() {
+        String username = cachedTokenUser;
+        return username != null ? AuthTokenCache.getInstance().getToken(username) : authToken;
+    }
+
+    protected CompletableFuture<Response> get(String endpoint) {
+        return get(endpoint, Collections.emptyMap());
+    }
+
+    protected CompletableFuture<Response> get(String endpoint, Map<String, ?> queryParams) {
+        return send(request(endpoint, queryParams).GET());
+    }
+
+    protected CompletableFuture<Response> post(String endpoint, Object requestBody) {
+        return send(request(endpoint, Collections.emptyMap()).POST(jsonBody(requestBody)));
+    }
+
+    protected CompletableFuture<Response> put(String endpoint, Object requestBody) {
+        return send(request(endpoint, Collections.emptyMap()).PUT(jsonBody(requestBody)));
+    }
+
+    protected CompletableFuture<Response> patch(String endpoint, Object requestBody) {
+        return send(request(endpoint, Collections.emptyMap()).method("PATCH", jsonBody(requestBody)));
+    }
+
+    protected CompletableFuture<Response> delete(String endpoint) {
+        return send(request(endpoint, Collections.emptyMap()).DELETE());
+    }
+
+    /**
+     * Request builder with base URL, query parameters, JSON headers and the auth token if set
+     */
+    protected HttpRequest.Builder request(String endpoint, Map<String, ?> queryParams) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(endpoint, queryParams))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        String token = resolveAuthToken();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    protected CompletableFuture<Response> send(HttpRequest.Builder request) {
+        return engine.send(request);
+    }
+
+    /**
+     * Fail fast for operations that need a token, as the blocking clients do
+     */
+    protected void requireAuthToken(String operation) {
+        if (authToken == null && cachedTokenUser == null) {
+            throw new IllegalStateException("Authentication token is required to " + operation);
+        }
+    }
+
+    private URI uri(String endpoint, Map<String, ?> queryParams) {
+        if (queryParams.isEmpty()) {
+            return URI.create(baseUrl + endpoint);
+        }
+        StringJoiner query = new StringJoiner("&", "?", "");
+        queryParams.forEach((name, value) -> query.add(URLEncoder.encode(name, StandardCharsets.UTF_8)
+                + "=" + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8)));
+        return URI.create(baseUrl + endpoint + query);
+    }
+
+    private static HttpRequest.BodyPublisher jsonBody(Object body) {
+        return HttpRequest.BodyPublishers.ofByteArray(ApiJson.write(body));
+    }
+}
@@ -0,0 +1,139 @@
+package com.peliQAn.framework.api.async;
+
+import com.peliQAn.framework.api.LatencyHistogramFilter;
+import com.peliQAn.framework.config.PropertyManager;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide non-blocking HTTP engine on java.net.http.
+ * Requests share one HTTP/2 client, so many of them are multiplexed over few connections,
+ * and completions run on a small bounded executor. The number of requests in flight is capped;
+ * callers block only when the cap is reached. Latencies go into the same histograms as blocking calls.
+ */
+@Slf4j
+public final class AsyncHttpEngine {
+
+    private static final AsyncHttpEngine INSTANCE = new AsyncHttpEngine();
+
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final Duration requestTimeout;
+
+    private AsyncHttpEngine() {
+        PropertyManager properties = PropertyManager.getInstance();
+        int threads = properties.getIntProperty("api.async.threads", 4);
+        this.maxInFlight = properties.getIntProperty("api.async.maxInFlight", 256);
+        this.requestTimeout = Duration.ofSeconds(properties.getIntProperty("api.timeout", 30));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "api-async-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.inFlight = new Semaphore(maxInFlight);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(properties.getIntProperty("api.http.connectTimeoutMs", 5000)))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+
+        log.info("Initialized async HTTP engine: HTTP/2, {} threads, {} requests in flight", threads, maxInFlight);
+    }
+
+    public static AsyncHttpEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Send a request without blocking on the response.
+     * The response is adapted to the RestAssured shape so existing assertions apply.
+     */
+    public CompletableFuture<Response> send(HttpRequest.Builder request) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            HttpRequest built = request.timeout(requestTimeout).build();
+            long start = System.nanoTime();
+            return client.sendAsync(built, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        record(built, start);
+                    })
+                    .thenApply(ResponseAdapter::toRestAssured);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Send a request whose body is read as a stream; completes once the headers have arrived.
+     * The connection is held until the stream is read to its end or closed.
+     * Cancelling the returned future aborts the exchange, and a response that still arrives is closed.
+     */
+    public CompletableFuture<HttpResponse<InputStream>> openStream(HttpRequest.Builder request) {
+        HttpRequest built = request.timeout(requestTimeout).build();
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<InputStream>> exchange =
+                client.sendAsync(built, HttpResponse.BodyHandlers.ofInputStream());
+        // The body is read at the caller's pace, so only the time to the headers is comparable
+        CompletableFuture<HttpResponse<InputStream>> result =
+                exchange.whenComplete((response, error) -> record(built, start));
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                // Cancelling a dependent stage does not reach the exchange, so give up on it here
+                exchange.whenComplete((late, lateError) -> {
+                    if (late != null) {
+                        closeQuietly(late.body());
+                    }
+                });
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            log.debug("Could not close abandoned response body: {}", e.getMessage());
+        }
+    }
+
+    private static void record(HttpRequest request, long startNanos) {
+        LatencyHistogramFilter.getInstance().record(request.method(), request.uri(),
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Number of requests currently waiting for a response
+     */
+    public int getInFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+}
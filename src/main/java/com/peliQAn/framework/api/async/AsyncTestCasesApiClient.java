@@ -0,0 +1,80 @@
+package com.peliQAn.framework.api.async;
+
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking API client for test cases endpoints
+ */
+@Slf4j
+public class AsyncTestCasesApiClient extends AsyncBaseApiClient {
+
+    private static final String TESTING_ENDPOINT = "/testing";
+    private static final String RUNS_ENDPOINT = "/runs";
+    private static final String REPORTS_ENDPOINT = "/reports";
+    private static final String STATISTICS_ENDPOINT = "/statistics";
+
+    @Step("Get all test cases asynchronously")
+    public CompletableFuture<Response> getAllTestCases() {
+        return get(TESTING_ENDPOINT);
+    }
+
+    @Step("Get test case asynchronously by ID: {id}")
+    public CompletableFuture<Response> getTestCaseById(long id) {
+        return get(TESTING_ENDPOINT + "/" + id);
+    }
+
+    @Step("Create new test case asynchronously")
+    public CompletableFuture<Response> createTestCase(Map<String, Object> testCaseData) {
+        requireAuthToken("create test case");
+        return post(TESTING_ENDPOINT, testCaseData);
+    }
+
+    @Step("Update test case asynchronously with ID: {id}")
+    public CompletableFuture<Response> updateTestCase(long id, Map<String, Object> testCaseData) {
+        requireAuthToken("update test case");
+        return put(TESTING_ENDPOINT + "/" + id, testCaseData);
+    }
+
+    @Step("Delete test case asynchronously with ID: {id}")
+    public CompletableFuture<Response> deleteTestCase(long id) {
+        requireAuthToken("delete test case");
+        return delete(TESTING_ENDPOINT + "/" + id);
+    }
+
+    @Step("Register test run asynchronously for test case ID: {testCaseId}")
+    public CompletableFuture<Response> registerTestRun(long testCaseId, Map<String, Object> runData) {
+        requireAuthToken("register test run");
+        return post(TESTING_ENDPOINT + "/" + testCaseId + "/run", runData);
+    }
+
+    @Step("Get runs asynchronously for test case ID: {testCaseId}")
+    public CompletableFuture<Response> getTestCaseRuns(long testCaseId) {
+        return get(TESTING_ENDPOINT + "/" + testCaseId + RUNS_ENDPOINT);
+    }
+
+    @Step("Get all test runs asynchronously")
+    public CompletableFuture<Response> getAllTestRuns() {
+        return get(TESTING_ENDPOINT + RUNS_ENDPOINT);
+    }
+
+    @Step("Generate test report asynchronously")
+    public CompletableFuture<Response> generateTestReport(Map<String, Object> reportData) {
+        requireAuthToken("generate test report");
+        return post(TESTING_ENDPOINT + REPORTS_ENDPOINT, reportData);
+    }
+
+    @Step("Get all test reports asynchronously")
+    public CompletableFuture<Response> getAllTestReports() {
+        return get(TESTING_ENDPOINT + REPORTS_ENDPOINT);
+    }
+
+    @Step("Get test statistics asynchronously")
+    public CompletableFuture<Response> getTestStatistics() {
+        return get(TESTING_ENDPOINT + STATISTICS_ENDPOINT);
+    }
+}
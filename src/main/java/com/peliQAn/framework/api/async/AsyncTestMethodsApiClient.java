@@ -0,0 +1,108 @@
+package com.peliQAn.framework.api.async;
+
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpRequest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking API client for testing different HTTP methods and parameters
+ */
+@Slf4j
+public class AsyncTestMethodsApiClient extends AsyncBaseApiClient {
+
+    private static final String METHODS_ENDPOINT = "/test/methods";
+    private static final String PARAMS_ENDPOINT = "/test/params";
+    private static final String HEADERS_ENDPOINT = "/test/headers";
+    private static final String CONTENT_TYPES_ENDPOINT = "/test/content-types";
+
+    @Step("Test GET method asynchronously")
+    public CompletableFuture<Response> testGet() {
+        return get(METHODS_ENDPOINT);
+    }
+
+    @Step("Test POST method asynchronously with body: {requestBody}")
+    public CompletableFuture<Response> testPost(Map<String, Object> requestBody) {
+        return post(METHODS_ENDPOINT, requestBody);
+    }
+
+    @Step("Test PUT method asynchronously with body: {requestBody}")
+    public CompletableFuture<Response> testPut(Map<String, Object> requestBody) {
+        return put(METHODS_ENDPOINT, requestBody);
+    }
+
+    @Step("Test PATCH method asynchronously with body: {requestBody}")
+    public CompletableFuture<Response> testPatch(Map<String, Object> requestBody) {
+        return patch(METHODS_ENDPOINT, requestBody);
+    }
+
+    @Step("Test DELETE method asynchronously")
+    public CompletableFuture<Response> testDelete() {
+        return delete(METHODS_ENDPOINT);
+    }
+
+    @Step("Test query parameters asynchronously: {queryParams}")
+    public CompletableFuture<Response> testQueryParams(Map<String, Object> queryParams) {
+        return get(PARAMS_ENDPOINT, queryParams);
+    }
+
+    @Step("Test path parameter asynchronously: {pathParam}")
+    public CompletableFuture<Response> testPathParam(String pathParam) {
+        return get(PARAMS_ENDPOINT + "/" + pathParam);
+    }
+
+    @Step("Test headers asynchronously: {headers}")
+    public CompletableFuture<Response> testHeaders(Map<String, String> headers) {
+        HttpRequest.Builder request = request(HEADERS_ENDPOINT, Collections.emptyMap()).GET();
+        headers.forEach(request::header);
+        return send(request);
+    }
+
+    @Step("Test JSON content type asynchronously")
+    public CompletableFuture<Response> testJsonContentType() {
+        return get(CONTENT_TYPES_ENDPOINT + "/json");
+    }
+
+    @Step("Test XML content type asynchronously")
+    public CompletableFuture<Response> testXmlContentType() {
+        return send(request(CONTENT_TYPES_ENDPOINT + "/xml", Collections.emptyMap())
+                .setHeader("Accept", "application/xml").GET());
+    }
+
+    @Step("Test text content type asynchronously")
+    public CompletableFuture<Response> testTextContentType() {
+        return send(request(CONTENT_TYPES_ENDPOINT + "/text", Collections.emptyMap())
+                .setHeader("Accept", "text/plain").GET());
+    }
+
+    /**
+     * Send all HTTP methods at once and wait for all of them
+     */
+    @Step("Test all HTTP methods concurrently")
+    public CompletableFuture<Map<String, Response>> testAllHttpMethods() {
+        Map<String, Object> testData = new LinkedHashMap<>();
+        testData.put("key1", "value1");
+        testData.put("key2", 123);
+        testData.put("key3", true);
+
+        Map<String, CompletableFuture<Response>> requests = new LinkedHashMap<>();
+        requests.put("GET", testGet());
+        requests.put("POST", testPost(testData));
+        requests.put("PUT", testPut(testData));
+        requests.put("PATCH", testPatch(testData));
+        requests.put("DELETE", testDelete());
+
+        return CompletableFuture.allOf(requests.values().toArray(new CompletableFuture[0]))
+                .thenApply(done -> {
+                    Map<String, Response> responses = new LinkedHashMap<>();
+                    requests.forEach((method, future) -> responses.put(method, future.join()));
+                    log.info("Completed testing all HTTP methods");
+                    return responses;
+                });
+    }
+}
@@ -0,0 +1,79 @@
+package com.peliQAn.framework.api.async;
+
+import com.peliQAn.framework.api.ApiJson;
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking API client for treasure endpoints
+ */
+@Slf4j
+public class AsyncTreasureApiClient extends AsyncBaseApiClient {
+
+    private static final String TREASURE_ENDPOINT = "/treasures";
+
+    @Step("Get all treasures asynchronously")
+    public CompletableFuture<Response> getAllTreasures() {
+        return get(TREASURE_ENDPOINT);
+    }
+
+    @Step("Get treasure by ID asynchronously: {id}")
+    public CompletableFuture<Response> getTreasureById(long id) {
+        return get(TREASURE_ENDPOINT + "/" + id);
+    }
+
+    @Step("Create new treasure asynchronously")
+    public CompletableFuture<Response> createTreasure(Map<String, Object> treasureData) {
+        requireAuthToken("create treasure");
+        return post(TREASURE_ENDPOINT, treasureData);
+    }
+
+    @Step("Update treasure asynchronously with ID: {id}")
+    public CompletableFuture<Response> updateTreasure(long id, Map<String, Object> treasureData) {
+        requireAuthToken("update treasure");
+        return put(TREASURE_ENDPOINT + "/" + id, treasureData);
+    }
+
+    @Step("Delete treasure asynchronously with ID: {id}")
+    public CompletableFuture<Response> deleteTreasure(long id) {
+        requireAuthToken("delete treasure");
+        return delete(TREASURE_ENDPOINT + "/" + id);
+    }
+
+    @Step("Search treasures asynchronously by name: {name}")
+    public CompletableFuture<Response> searchTreasuresByName(String name) {
+        return get(TREASURE_ENDPOINT + "/search", Collections.singletonMap("name", name));
+    }
+
+    @Step("Get discovered treasures asynchronously")
+    public CompletableFuture<Response> getDiscoveredTreasures() {
+        return get(TREASURE_ENDPOINT, Collections.singletonMap("discovered", true));
+    }
+
+    @Step("Get undiscovered treasures asynchronously")
+    public CompletableFuture<Response> getUndiscoveredTreasures() {
+        return get(TREASURE_ENDPOINT, Collections.singletonMap("discovered", false));
+    }
+
+    /**
+     * Mark treasure as discovered, keeping its other properties
+     */
+    @Step("Mark treasure as discovered asynchronously: {id}")
+    public CompletableFuture<Response> discoverTreasure(long id) {
+        requireAuthToken("discover treasure");
+        return getTreasureById(id).thenCompose(response -> {
+            if (response.getStatusCode() != 200) {
+                log.error("Failed to get treasure: {}", response.getStatusCode());
+                return CompletableFuture.completedFuture(response);
+            }
+            Map<String, Object> treasureData = ApiJson.readMap(response);
+            treasureData.put("discovered", true);
+            return updateTreasure(id, treasureData);
+        });
+    }
+}
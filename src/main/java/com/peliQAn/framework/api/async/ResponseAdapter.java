@@ -0,0 +1,44 @@
+package com.peliQAn.framework.api.async;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts java.net.http responses to RestAssured responses
+ */
+final class ResponseAdapter {
+
+    private ResponseAdapter() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Status, headers and body are carried over; response time is not available on the adapted response
+     */
+    static Response toRestAssured(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(statusLine(response))
+                .setHeaders(new Headers(headers))
+                .setBody(response.body());
+        response.headers().firstValue("content-type").ifPresent(builder::setContentType);
+
+        return builder.build();
+    }
+
+    private static String statusLine(HttpResponse<byte[]> response) {
+        String version = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return version + " " + response.statusCode();
+    }
+}
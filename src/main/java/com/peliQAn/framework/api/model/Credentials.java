@@ -0,0 +1,19 @@
+package com.peliQAn.framework.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * User credentials for registration and login; email is only sent when set
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Credentials {
+    private String username;
+    private String email;
+    private String password;
+}
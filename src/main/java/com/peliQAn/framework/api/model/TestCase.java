@@ -0,0 +1,21 @@
+package com.peliQAn.framework.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Test case as exchanged with the testing endpoints
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCase {
+    private Long id;
+    private String name;
+    private String description;
+    private String status;
+    private String priority;
+}
@@ -0,0 +1,20 @@
+package com.peliQAn.framework.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Run of a test case; duration in milliseconds
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestRun {
+    private Long id;
+    private Long testCaseId;
+    private String status;
+    private Long duration;
+}
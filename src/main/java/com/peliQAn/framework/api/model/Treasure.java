@@ -0,0 +1,22 @@
+package com.peliQAn.framework.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Treasure as exchanged with the treasure endpoints; id is null until created
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Treasure {
+    private Long id;
+    private String name;
+    private Integer value;
+    private String description;
+    private String location;
+    private Boolean discovered;
+}
@@ -1,6 +1,12 @@
 package com.peliQAn.framework.core;
 
 import com.peliQAn.framework.config.PropertyManager;
+import com.peliQAn.framework.pages.FrameNavigator;
+import com.peliQAn.framework.utils.BrowserClock;
+import com.peliQAn.framework.utils.CrossWindowExecutor;
+import com.peliQAn.framework.utils.NetworkStreamTap;
+import com.peliQAn.framework.utils.TimeOverride;
+import com.peliQAn.framework.utils.WindowRegistry;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.WebDriver;
@@ -58,6 +64,8 @@ public class DriverFactory {
                 if (headless) {
                     firefoxOptions.addArguments("--headless");
                 }
+                // Enable BiDi so window events can be observed without switching
+                firefoxOptions.setCapability("webSocketUrl", true);
                 driver = new FirefoxDriver(firefoxOptions);
                 break;
                 
@@ -118,6 +126,12 @@ public class DriverFactory {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
             log.info("Quitting WebDriver instance");
+            WindowRegistry.release(driver);
+            CrossWindowExecutor.release(driver);
+            FrameNavigator.release(driver);
+            NetworkStreamTap.release(driver);
+            BrowserClock.release(driver);
+            TimeOverride.release(driver);
             driver.quit();
             driverThreadLocal.remove();
         }
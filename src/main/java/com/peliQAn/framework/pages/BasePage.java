@@ -2,7 +2,10 @@ package com.peliQAn.framework.pages;
 
 import com.peliQAn.framework.config.PropertyManager;
 import com.peliQAn.framework.core.DriverFactory;
+import com.peliQAn.framework.utils.BrowserSoftAssertions;
+import com.peliQAn.framework.utils.DomSnapshot;
 import com.peliQAn.framework.utils.ScreenshotUtils;
+import com.peliQAn.framework.utils.TimeOverride;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.*;
@@ -14,7 +17,11 @@ import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -53,6 +60,7 @@ public abstract class BasePage {
     public void navigateTo(String url) {
         log.info("Navigating to URL: {}", url);
         driver.get(url);
+        FrameNavigator.forDriver(driver).reset();
     }
 
     /**
@@ -62,6 +70,7 @@ public abstract class BasePage {
     public void navigateToBaseUrl() {
         log.info("Navigating to base URL: {}", baseUrl);
         driver.get(baseUrl);
+        FrameNavigator.forDriver(driver).reset();
     }
 
     /**
@@ -135,6 +144,35 @@ public abstract class BasePage {
         log.debug("Typed text: '{}' into element: {}", text, element);
     }
 
+    /**
+     * Fill a form from a spec: fields needing real keystrokes are typed first, all others
+     * are set in one script that fires input/change/blur events and returns the validation state
+     */
+    @Step("Fill form")
+    @SuppressWarnings("unchecked")
+    protected FormFill.Result fillForm(FormFill form) {
+        for (FormFill.Entry entry : form.getEntries()) {
+            if (entry.getKind() == FormFill.Kind.TYPED) {
+                type(entry.getElement(), entry.getValue());
+            }
+        }
+
+        Map<String, Object> result = (Map<String, Object>) js.executeAsyncScript(FormFill.FILL_SCRIPT,
+                form.toScriptFields(), form.getErrorSelector());
+
+        List<FormFill.FieldState> fields = new ArrayList<>();
+        for (Map<String, Object> field : (List<Map<String, Object>>) result.get("fields")) {
+            fields.add(new FormFill.FieldState(
+                    (String) field.get("name"),
+                    (String) field.get("value"),
+                    Boolean.TRUE.equals(field.get("valid")),
+                    (String) field.get("message")));
+        }
+        FormFill.Result fillResult = new FormFill.Result(fields, (List<String>) result.get("errors"));
+        log.debug("Filled {} form fields, valid: {}", fields.size(), fillResult.isValid());
+        return fillResult;
+    }
+
     /**
      * Clear text from an element
      */
@@ -321,6 +359,7 @@ public abstract class BasePage {
     @Step("Switch to frame: {frame}")
     protected void switchToFrame(WebElement frame) {
         wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(frame));
+        FrameNavigator.forDriver(driver).enteredFrame(frame);
         log.debug("Switched to frame: {}", frame);
     }
     
@@ -330,6 +369,7 @@ public abstract class BasePage {
     @Step("Switch to frame by index: {index}")
     protected void switchToFrame(int index) {
         driver.switchTo().frame(index);
+        FrameNavigator.forDriver(driver).lostTrack();
         log.debug("Switched to frame by index: {}", index);
     }
 
@@ -339,6 +379,7 @@ public abstract class BasePage {
     @Step("Switch to frame by name or ID: {nameOrId}")
     protected void switchToFrame(String nameOrId) {
         driver.switchTo().frame(nameOrId);
+        FrameNavigator.forDriver(driver).lostTrack();
         log.debug("Switched to frame by name or ID: {}", nameOrId);
     }
 
@@ -348,15 +389,26 @@ public abstract class BasePage {
     @Step("Switch to default content")
     protected void switchToDefaultContent() {
         driver.switchTo().defaultContent();
+        FrameNavigator.forDriver(driver).enteredDefaultContent();
         log.debug("Switched to default content");
     }
 
+    /**
+     * Switch to a frame path, climbing only to the common ancestor of the current and target frames
+     */
+    @Step("Switch to frame path: {path}")
+    protected void switchToFramePath(FramePath path) {
+        FrameNavigator.forDriver(driver).switchTo(path);
+        log.debug("Switched to frame path: {}", path);
+    }
+
     /**
      * Switch to parent frame
      */
     @Step("Switch to parent frame")
     protected void switchToParentFrame() {
         driver.switchTo().parentFrame();
+        FrameNavigator.forDriver(driver).leftFrame();
         log.debug("Switched to parent frame");
     }
 
@@ -421,6 +473,7 @@ public abstract class BasePage {
     @Step("Switch to window with handle: {windowHandle}")
     protected void switchToWindow(String windowHandle) {
         driver.switchTo().window(windowHandle);
+        FrameNavigator.forDriver(driver).reset();
         log.debug("Switched to window with handle: {}", windowHandle);
     }
 
@@ -678,25 +731,94 @@ public abstract class BasePage {
         return js.executeScript(script, canvas, x, y);
     }
 
+    /**
+     * Capture a DOM snapshot of the element's subtree for local checks
+     */
+    protected DomSnapshot captureSnapshot(WebElement root) {
+        return DomSnapshot.capture(driver, root);
+    }
+
+    /**
+     * Capture a DOM snapshot of the whole page for local checks
+     */
+    protected DomSnapshot captureSnapshot() {
+        return DomSnapshot.capture(driver);
+    }
+
+    /**
+     * Start collecting soft assertions evaluated together in the browser
+     */
+    public BrowserSoftAssertions softAssertions() {
+        return new BrowserSoftAssertions(driver);
+    }
+
+    // Table methods
+
+    protected static final String TABLE_EXTRACT_SCRIPT =
+        "const table = arguments[0];" +
+        "const visibleOnly = arguments[1];" +
+        "const text = el => (el.innerText || '').trim();" +
+        "let headerCells = Array.from(table.querySelectorAll('thead th'));" +
+        "if (!headerCells.length && table.rows.length) { headerCells = Array.from(table.rows[0].querySelectorAll('th')); }" +
+        "const headers = headerCells.map(text);" +
+        "let rows = Array.from(table.querySelectorAll('tbody tr')).filter(row => row.querySelector('td'));" +
+        "if (visibleOnly) { rows = rows.filter(row => row.getClientRects().length > 0); }" +
+        "const cellRows = rows.map(row => Array.from(row.querySelectorAll('td')).map(text));" +
+        "const width = headers.length || cellRows.reduce((max, cells) => Math.max(max, cells.length), 0);" +
+        "const columns = [];" +
+        "for (let c = 0; c < width; c++) { columns.push(cellRows.map(cells => c < cells.length ? cells[c] : '')); }" +
+        "return {headers: headers, columns: columns};";
+
+    private static final String TABLE_CELL_SCRIPT =
+        "const rows = Array.from(arguments[0].querySelectorAll('tbody tr')).filter(row => row.querySelector('td'));" +
+        "const row = rows[arguments[1]];" +
+        "const cell = row ? row.querySelectorAll('td')[arguments[2]] : null;" +
+        "return cell ? (cell.innerText || '').trim() : null;";
+
+    /**
+     * Read headers and all body cells of a table in one script
+     *
+     * @param visibleRowsOnly skip rows hidden by filtering
+     */
+    protected TableView extractTable(WebElement table, boolean visibleRowsOnly) {
+        TableView view = toTableView(js.executeScript(TABLE_EXTRACT_SCRIPT, table, visibleRowsOnly));
+        log.debug("Extracted table with {} rows and {} columns", view.getRowCount(), view.getColumnCount());
+        return view;
+    }
+
+    /**
+     * Convert the result of TABLE_EXTRACT_SCRIPT into a TableView
+     */
+    @SuppressWarnings("unchecked")
+    protected static TableView toTableView(Object extractResult) {
+        Map<String, Object> result = (Map<String, Object>) extractResult;
+        return TableView.of((List<String>) result.get("headers"), (List<List<String>>) result.get("columns"));
+    }
+
+    /**
+     * Read a single body cell of a table
+     */
+    protected String extractTableCell(WebElement table, int rowIndex, int columnIndex) {
+        String cellText = (String) js.executeScript(TABLE_CELL_SCRIPT, table, rowIndex, columnIndex);
+        if (cellText == null) {
+            throw new IndexOutOfBoundsException("No table cell at row " + rowIndex + ", column " + columnIndex);
+        }
+        return cellText;
+    }
+
     // Time manipulation methods
 
     /**
-     * Override JavaScript date
+     * Override JavaScript date for this and every following document of the session
      */
     @Step("Override JavaScript date to: {dateString}")
     protected void overrideJavaScriptDate(String dateString) {
-        String script = "const originalDate = Date;" +
-                        "const customDate = new Date('" + dateString + "');" +
-                        "Date = class extends originalDate {" +
-                        "  constructor() {" +
-                        "    super();" +
-                        "    return customDate;" +
-                        "  }" +
-                        "  static now() {" +
-                        "    return customDate.getTime();" +
-                        "  }" +
-                        "}";
-        js.executeScript(script);
+        // Parse like the page would with new Date(dateString)
+        Number millis = (Number) js.executeScript("return Date.parse(arguments[0]);", dateString);
+        if (millis == null || Double.isNaN(millis.doubleValue())) {
+            throw new IllegalArgumentException("Unparseable date: " + dateString);
+        }
+        TimeOverride.forDriver(driver).setTime(Instant.ofEpochMilli(millis.longValue()));
         log.debug("Overridden JavaScript date to: {}", dateString);
     }
 
@@ -705,22 +827,17 @@ public abstract class BasePage {
      */
     @Step("Reset JavaScript date")
     protected void resetJavaScriptDate() {
-        js.executeScript("Date = window.originalDate || Date;");
+        TimeOverride.forDriver(driver).setTime(null);
         log.debug("Reset JavaScript date");
     }
 
     /**
-     * Set timezone offset
+     * Set timezone offset, in getTimezoneOffset() minutes (positive west of UTC).
+     * Only whole hours have an IANA zone; use TimeOverride.setTimezone with a region for others.
      */
     @Step("Set timezone offset to: {offsetMinutes}")
     protected void setTimezoneOffset(int offsetMinutes) {
-        // Store original methods
-        js.executeScript(
-            "if (!window.originalGetTimezoneOffset) {" +
-            "  window.originalGetTimezoneOffset = Date.prototype.getTimezoneOffset;" +
-            "}" +
-            "Date.prototype.getTimezoneOffset = function() { return " + offsetMinutes + "; };"
-        );
+        TimeOverride.forDriver(driver).setTimezone(ZoneOffset.ofTotalSeconds(-offsetMinutes * 60));
         log.debug("Set timezone offset to: {} minutes", offsetMinutes);
     }
 
@@ -729,11 +846,16 @@ public abstract class BasePage {
      */
     @Step("Reset timezone offset")
     protected void resetTimezoneOffset() {
-        js.executeScript(
-            "if (window.originalGetTimezoneOffset) {" +
-            "  Date.prototype.getTimezoneOffset = window.originalGetTimezoneOffset;" +
-            "}"
-        );
+        TimeOverride.forDriver(driver).setTimezone(null);
         log.debug("Reset timezone offset");
     }
+
+    /**
+     * Remove all date and timezone overrides in one call
+     */
+    @Step("Clear time overrides")
+    protected void clearTimeOverrides() {
+        TimeOverride.forDriver(driver).clear();
+        log.debug("Cleared time overrides");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,214 @@
+package com.peliQAn.framework.pages;
+
+import lombok.Value;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declarative form input: which field gets which value.
+ * Applied by BasePage.fillForm in one script that sets every value, fires the events a user
+ * would cause (focus, input, change, blur) and returns the validation state. Fields marked
+ * as typed are filled with real keystrokes instead.
+ */
+public final class FormFill {
+
+    enum Kind {
+        TEXT,
+        CHECKBOX,
+        RADIO,
+        SELECT_TEXT,
+        SELECT_VALUE,
+        TYPED
+    }
+
+    static final String FILL_SCRIPT =
+        "const fields = arguments[0];" +
+        "const errorSelector = arguments[1];" +
+        "const done = arguments[arguments.length - 1];" +
+        "const fire = (el, type, Ctor) => el.dispatchEvent(new (Ctor || Event)(type, {bubbles: true}));" +
+        "const focus = el => { fire(el, 'focus', FocusEvent); fire(el, 'focusin', FocusEvent); };" +
+        "const blur = el => { fire(el, 'blur', FocusEvent); fire(el, 'focusout', FocusEvent); };" +
+        // Native setter, so frameworks that track the value property see the change
+        "const setValue = (el, value) => {" +
+        "  const proto = Object.getPrototypeOf(el);" +
+        "  const descriptor = Object.getOwnPropertyDescriptor(proto, 'value');" +
+        "  if (descriptor && descriptor.set) { descriptor.set.call(el, value); } else { el.value = value; }" +
+        "};" +
+        "fields.forEach(field => {" +
+        "  const el = field.element;" +
+        "  switch (field.kind) {" +
+        "    case 'TEXT':" +
+        "      focus(el); setValue(el, field.value);" +
+        "      fire(el, 'input', InputEvent); fire(el, 'change'); blur(el);" +
+        "      break;" +
+        "    case 'CHECKBOX':" +
+        "    case 'RADIO':" +
+        "      focus(el);" +
+        // A real click toggles the state and fires input and change in the right order
+        "      if (el.checked !== field.checked) { el.click(); }" +
+        "      blur(el);" +
+        "      break;" +
+        "    case 'SELECT_TEXT':" +
+        "    case 'SELECT_VALUE': {" +
+        "      const option = Array.from(el.options).find(o => field.kind === 'SELECT_TEXT'" +
+        "        ? (o.text || '').trim() === field.value : o.value === field.value);" +
+        "      if (!option) { throw new Error('No option ' + field.value + ' in select ' + (el.id || el.name)); }" +
+        "      focus(el); option.selected = true;" +
+        "      fire(el, 'input'); fire(el, 'change'); blur(el);" +
+        "      break;" +
+        "    }" +
+        "    default:" +
+        "      break;" +
+        "  }" +
+        "});" +
+        "const isVisible = el => !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length);" +
+        "let reported = false;" +
+        "const report = () => {" +
+        "  if (reported) { return; }" +
+        "  reported = true;" +
+        "  done({" +
+        "  fields: fields.map(field => {" +
+        "    const el = field.element;" +
+        "    return {name: el.id || el.name || el.tagName.toLowerCase()," +
+        "            value: el.type === 'checkbox' || el.type === 'radio' ? String(el.checked) : el.value," +
+        "            valid: el.willValidate ? el.validity.valid : true," +
+        "            message: el.validationMessage || ''};" +
+        "  })," +
+        "  errors: errorSelector ? Array.from(document.querySelectorAll(errorSelector))" +
+        "    .filter(isVisible).map(e => (e.innerText || '').trim()).filter(t => t) : []" +
+        "  });" +
+        "};" +
+        // Let framework validation re-render before reading the state
+        "requestAnimationFrame(() => requestAnimationFrame(report));" +
+        "setTimeout(report, 100);";
+
+    private final List<Entry> entries = new ArrayList<>();
+    private String errorSelector;
+
+    /**
+     * One field and its value
+     */
+    @Value
+    static class Entry {
+        WebElement element;
+        Kind kind;
+        String value;
+        boolean checked;
+    }
+
+    /**
+     * Validation state of a field after filling
+     */
+    @Value
+    public static class FieldState {
+        String name;
+        String value;
+        boolean valid;
+        String validationMessage;
+    }
+
+    /**
+     * Outcome of filling a form: per-field state and visible error messages
+     */
+    @Value
+    public static class Result {
+        List<FieldState> fields;
+        List<String> errorMessages;
+
+        public boolean isValid() {
+            return errorMessages.isEmpty() && fields.stream().allMatch(FieldState::isValid);
+        }
+
+        /**
+         * Field states by field name (id or name attribute)
+         */
+        public Map<String, FieldState> byName() {
+            Map<String, FieldState> states = new LinkedHashMap<>();
+            fields.forEach(field -> states.put(field.getName(), field));
+            return states;
+        }
+    }
+
+    private FormFill() {
+    }
+
+    public static FormFill create() {
+        return new FormFill();
+    }
+
+    /**
+     * Text-like input or textarea
+     */
+    public FormFill text(WebElement field, String value) {
+        entries.add(new Entry(field, Kind.TEXT, value, false));
+        return this;
+    }
+
+    /**
+     * Field that must receive real keystrokes, e.g. one with key handlers or input masks
+     */
+    public FormFill typed(WebElement field, String value) {
+        entries.add(new Entry(field, Kind.TYPED, value, false));
+        return this;
+    }
+
+    public FormFill checkbox(WebElement field, boolean checked) {
+        entries.add(new Entry(field, Kind.CHECKBOX, null, checked));
+        return this;
+    }
+
+    /**
+     * Select a radio button
+     */
+    public FormFill radio(WebElement field) {
+        entries.add(new Entry(field, Kind.RADIO, null, true));
+        return this;
+    }
+
+    public FormFill selectByText(WebElement field, String optionText) {
+        entries.add(new Entry(field, Kind.SELECT_TEXT, optionText, false));
+        return this;
+    }
+
+    public FormFill selectByValue(WebElement field, String optionValue) {
+        entries.add(new Entry(field, Kind.SELECT_VALUE, optionValue, false));
+        return this;
+    }
+
+    /**
+     * Also report visible error messages matching the selector
+     */
+    public FormFill collectErrors(String errorSelector) {
+        this.errorSelector = errorSelector;
+        return this;
+    }
+
+    List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    String getErrorSelector() {
+        return errorSelector;
+    }
+
+    /**
+     * Script arguments for all fields; typed fields are included for their validation state only
+     */
+    List<Map<String, Object>> toScriptFields() {
+        List<Map<String, Object>> fields = new ArrayList<>();
+        for (Entry entry : entries) {
+            Map<String, Object> field = new LinkedHashMap<>();
+            field.put("element", entry.getElement());
+            field.put("kind", entry.getKind().name());
+            field.put("value", entry.getValue());
+            field.put("checked", entry.isChecked());
+            fields.add(field);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,185 @@
+package com.peliQAn.framework.pages;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v120.page.Page;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the frame stack of a driver and moves between frames with the fewest switches.
+ * Going from one path to another only climbs to their common ancestor and descends from there.
+ * Resolved frame elements are cached per path; the cache is dropped when a frame navigates
+ * (reported over CDP where available), when the window changes or when an element went stale.
+ */
+@Slf4j
+public class FrameNavigator {
+
+    private static final Map<WebDriver, FrameNavigator> navigators =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private final Map<FramePath, WebElement> frameElements = new ConcurrentHashMap<>();
+
+    // Null while the position is unknown, e.g. after switching by index or name
+    private volatile FramePath current = FramePath.root();
+
+    private FrameNavigator(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Get the navigator for a driver, creating it on first use
+     */
+    public static FrameNavigator forDriver(WebDriver driver) {
+        synchronized (navigators) {
+            return navigators.computeIfAbsent(driver, FrameNavigator::start);
+        }
+    }
+
+    /**
+     * Forget the navigator for a driver (called when the driver quits)
+     */
+    public static void release(WebDriver driver) {
+        navigators.remove(driver);
+    }
+
+    private static FrameNavigator start(WebDriver driver) {
+        FrameNavigator navigator = new FrameNavigator(driver);
+        // Firefox implements HasDevTools without a CDP endpoint, so ask for one instead of assuming it
+        Optional<DevTools> cdp = driver instanceof HasDevTools
+                ? ((HasDevTools) driver).maybeGetDevTools()
+                : Optional.empty();
+        if (cdp.isEmpty()) {
+            log.debug("No CDP endpoint, frame navigator relies on stale element checks");
+            return navigator;
+        }
+        try {
+            DevTools devTools = cdp.get();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(Page.enable());
+            devTools.addListener(Page.frameNavigated(), event -> navigator.onFrameNavigated(
+                    !event.getFrame().getParentId().isPresent()));
+        } catch (Exception e) {
+            log.debug("Frame navigation events not available, relying on stale element checks: {}", e.getMessage());
+        }
+        return navigator;
+    }
+
+    private void onFrameNavigated(boolean topLevel) {
+        frameElements.clear();
+        if (topLevel) {
+            // WebDriver's frame context does not survive a top-level navigation
+            current = null;
+        }
+    }
+
+    /**
+     * Current frame path, or null if it is unknown
+     */
+    public FramePath getCurrentPath() {
+        return current;
+    }
+
+    /**
+     * Switch to the target path with the minimal parent-up and child-down sequence
+     */
+    public void switchTo(FramePath target) {
+        if (current == null) {
+            driver.switchTo().defaultContent();
+            current = FramePath.root();
+        }
+        FramePath start = current;
+        int common = start.commonPrefixLength(target);
+
+        try {
+            for (int depth = start.depth(); depth > common; depth--) {
+                driver.switchTo().parentFrame();
+            }
+            current = target.prefix(common);
+
+            for (int depth = common; depth < target.depth(); depth++) {
+                FramePath next = target.prefix(depth + 1);
+                enter(next);
+                current = next;
+            }
+        } catch (RuntimeException e) {
+            current = null;
+            throw e;
+        }
+        log.debug("Switched from {} to {} ({} up, {} down)",
+                start, target, start.depth() - common, target.depth() - common);
+    }
+
+    /**
+     * Enter the last frame of the path from its parent, re-resolving once if the cached element went stale
+     */
+    private void enter(FramePath path) {
+        WebElement cached = frameElements.get(path);
+        if (cached != null) {
+            try {
+                driver.switchTo().frame(cached);
+                return;
+            } catch (StaleElementReferenceException | NoSuchFrameException e) {
+                log.debug("Cached frame element for {} is stale, resolving again", path);
+                invalidateBelow(path);
+            }
+        }
+        FramePath.Segment segment = path.segment(path.depth() - 1);
+        WebElement frameElement = segment.locate(driver);
+        driver.switchTo().frame(frameElement);
+        if (segment.isRelocatable()) {
+            frameElements.put(path, frameElement);
+        }
+    }
+
+    private void invalidateBelow(FramePath path) {
+        frameElements.keySet().removeIf(path::isAncestorOrSelfOf);
+    }
+
+    /**
+     * Record a switch into a frame element made from the current position
+     */
+    public void enteredFrame(WebElement frameElement) {
+        current = current == null ? null : current.child(frameElement);
+    }
+
+    /**
+     * Record a switch that can't be expressed as a path (by index or name)
+     */
+    public void lostTrack() {
+        current = null;
+    }
+
+    /**
+     * Record a switch to the parent frame
+     */
+    public void leftFrame() {
+        current = current == null ? null : current.parent();
+    }
+
+    /**
+     * Record a switch to the top-level document
+     */
+    public void enteredDefaultContent() {
+        current = FramePath.root();
+    }
+
+    /**
+     * Drop cached frame elements and start from the top-level document,
+     * used after navigating or switching windows
+     */
+    public void reset() {
+        frameElements.clear();
+        current = FramePath.root();
+    }
+}
@@ -0,0 +1,213 @@
+package com.peliQAn.framework.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable path from the top-level document to a frame.
+ * Each segment locates one frame element inside its parent document,
+ * either by locator, by index among the parent's iframes or by an already resolved element.
+ */
+public final class FramePath {
+
+    static final By FRAME_LOCATOR = By.cssSelector("iframe, frame");
+
+    private static final FramePath ROOT = new FramePath(Collections.emptyList());
+
+    private final List<Segment> segments;
+
+    private FramePath(List<Segment> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * One step down the frame tree
+     */
+    public static final class Segment {
+        private final By locator;
+        private final Integer index;
+        private final WebElement element;
+
+        private Segment(By locator, Integer index, WebElement element) {
+            this.locator = locator;
+            this.index = index;
+            this.element = element;
+        }
+
+        /**
+         * Find the frame element in the parent document
+         */
+        WebElement locate(SearchContext parent) {
+            if (element != null) {
+                return element;
+            }
+            if (locator != null) {
+                return parent.findElement(locator);
+            }
+            return parent.findElements(FRAME_LOCATOR).get(index);
+        }
+
+        /**
+         * Whether the segment can be located again after its element went stale
+         */
+        boolean isRelocatable() {
+            return element == null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Segment)) {
+                return false;
+            }
+            Segment other = (Segment) o;
+            return Objects.equals(locator, other.locator)
+                    && Objects.equals(index, other.index)
+                    && Objects.equals(element, other.element);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(locator, index, element);
+        }
+
+        @Override
+        public String toString() {
+            if (locator != null) {
+                return locator.toString();
+            }
+            return index != null ? "[" + index + "]" : "element " + element;
+        }
+    }
+
+    /**
+     * Path of the top-level document
+     */
+    public static FramePath root() {
+        return ROOT;
+    }
+
+    /**
+     * Path built from locators, each resolved inside the previous frame
+     */
+    public static FramePath of(By... locators) {
+        FramePath path = ROOT;
+        for (By locator : locators) {
+            path = path.child(locator);
+        }
+        return path;
+    }
+
+    /**
+     * Path built from iframe indexes, as reported by FrameTreeUtils
+     */
+    public static FramePath ofIndices(List<Integer> indices) {
+        FramePath path = ROOT;
+        for (Integer index : indices) {
+            path = path.child(index);
+        }
+        return path;
+    }
+
+    /**
+     * Child frame located by locator
+     */
+    public FramePath child(By locator) {
+        return append(new Segment(locator, null, null));
+    }
+
+    /**
+     * Child frame located by its index among the iframes of this frame
+     */
+    public FramePath child(int index) {
+        return append(new Segment(null, index, null));
+    }
+
+    /**
+     * Child frame given as a resolved element
+     */
+    public FramePath child(WebElement frameElement) {
+        return append(new Segment(null, null, frameElement));
+    }
+
+    private FramePath append(Segment segment) {
+        List<Segment> childSegments = new ArrayList<>(segments);
+        childSegments.add(segment);
+        return new FramePath(childSegments);
+    }
+
+    /**
+     * Parent path, root stays root
+     */
+    public FramePath parent() {
+        return isRoot() ? this : prefix(segments.size() - 1);
+    }
+
+    /**
+     * First n segments of this path
+     */
+    public FramePath prefix(int length) {
+        return length == 0 ? ROOT : new FramePath(new ArrayList<>(segments.subList(0, length)));
+    }
+
+    /**
+     * Number of shared leading segments with another path
+     */
+    public int commonPrefixLength(FramePath other) {
+        int limit = Math.min(segments.size(), other.segments.size());
+        int common = 0;
+        while (common < limit && segments.get(common).equals(other.segments.get(common))) {
+            common++;
+        }
+        return common;
+    }
+
+    /**
+     * Whether the other path is this path or lies below it
+     */
+    public boolean isAncestorOrSelfOf(FramePath other) {
+        return commonPrefixLength(other) == segments.size();
+    }
+
+    public boolean isRoot() {
+        return segments.isEmpty();
+    }
+
+    public int depth() {
+        return segments.size();
+    }
+
+    Segment segment(int position) {
+        return segments.get(position);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof FramePath && segments.equals(((FramePath) o).segments);
+    }
+
+    @Override
+    public int hashCode() {
+        return segments.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder name = new StringBuilder("root");
+        for (Segment segment : segments) {
+            name.append(" > ").append(segment);
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,185 @@
+package com.peliQAn.framework.pages;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read-only columnar snapshot of an HTML table.
+ * Cells are stored column-major, so reading, parsing or checking the order of a column
+ * touches one array and needs no further browser round trips.
+ */
+public final class TableView {
+
+    private final String[] headers;
+    private final String[][] columns;
+    private final Map<String, Integer> headerIndex = new HashMap<>();
+    private final int rowCount;
+
+    private TableView(String[] headers, String[][] columns, int rowCount) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        for (int i = 0; i < headers.length; i++) {
+            headerIndex.putIfAbsent(headers[i], i);
+        }
+    }
+
+    /**
+     * Build a view from headers and column-major cell texts
+     */
+    public static TableView of(List<String> headers, List<List<String>> columns) {
+        int rowCount = columns.isEmpty() ? 0 : columns.get(0).size();
+        String[][] cells = new String[columns.size()][];
+        for (int i = 0; i < columns.size(); i++) {
+            cells[i] = columns.get(i).toArray(new String[0]);
+        }
+        return new TableView(headers.toArray(new String[0]), cells, rowCount);
+    }
+
+    public List<String> getHeaders() {
+        return Collections.unmodifiableList(Arrays.asList(headers));
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Index of a column by header text
+     */
+    public int columnIndex(String header) {
+        Integer index = headerIndex.get(header);
+        if (index == null) {
+            throw new IllegalArgumentException("Column not found: " + header + ", headers: " + getHeaders());
+        }
+        return index;
+    }
+
+    /**
+     * All cells of a column, top to bottom
+     */
+    public List<String> column(int columnIndex) {
+        return Collections.unmodifiableList(Arrays.asList(columns[columnIndex]));
+    }
+
+    public List<String> column(String header) {
+        return column(columnIndex(header));
+    }
+
+    public String cell(int rowIndex, int columnIndex) {
+        return columns[columnIndex][rowIndex];
+    }
+
+    public String cell(int rowIndex, String header) {
+        return cell(rowIndex, columnIndex(header));
+    }
+
+    /**
+     * Parse every cell of a column with the given parser
+     */
+    public <T> List<T> parseColumn(String header, Function<String, T> parser) {
+        String[] cells = columns[columnIndex(header)];
+        List<T> values = new ArrayList<>(cells.length);
+        for (String cell : cells) {
+            values.add(parser.apply(cell));
+        }
+        return values;
+    }
+
+    /**
+     * Numeric values of a column; currency signs, separators and other decoration are ignored,
+     * cells without a number become NaN
+     */
+    public double[] numericColumn(String header) {
+        String[] cells = columns[columnIndex(header)];
+        double[] values = new double[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            values[i] = parseNumber(cells[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Lenient number parsing, NaN if the text has no number
+     */
+    public static double parseNumber(String text) {
+        if (text == null) {
+            return Double.NaN;
+        }
+        String cleaned = text.replaceAll("[^0-9.\\-]", "");
+        if (cleaned.isEmpty() || cleaned.equals("-") || cleaned.equals(".")) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(cleaned);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Whether the column is sorted according to the comparator (equal neighbours allowed)
+     */
+    public boolean isSorted(String header, Comparator<String> order) {
+        String[] cells = columns[columnIndex(header)];
+        for (int i = 1; i < cells.length; i++) {
+            if (order.compare(cells[i - 1], cells[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the column is sorted, comparing numerically when every cell holds a number
+     * and case-insensitively as text otherwise
+     */
+    public boolean isSorted(String header, boolean ascending) {
+        Comparator<String> order = isNumericColumn(header)
+                ? Comparator.comparingDouble(TableView::parseNumber)
+                : String.CASE_INSENSITIVE_ORDER;
+        return isSorted(header, ascending ? order : order.reversed());
+    }
+
+    private boolean isNumericColumn(String header) {
+        for (double value : numericColumn(header)) {
+            if (Double.isNaN(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * One row as header to cell map
+     */
+    public Map<String, String> row(int rowIndex) {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < headers.length && i < columns.length; i++) {
+            row.put(headers[i], columns[i][rowIndex]);
+        }
+        return row;
+    }
+
+    /**
+     * All rows as header to cell maps, for callers working row by row
+     */
+    public List<Map<String, String>> toRowMaps() {
+        List<Map<String, String>> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(row(i));
+        }
+        return rows;
+    }
+}
@@ -1,6 +1,8 @@
 package com.peliQAn.framework.pages.basic;
 
 import com.peliQAn.framework.pages.BasePage;
+import com.peliQAn.framework.pages.FormFill;
+import com.peliQAn.framework.utils.DomSnapshot;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
@@ -15,6 +17,8 @@ import org.openqa.selenium.support.FindBy;
 public class AllElementsPage extends BasePage {
 
     private static final String PAGE_URL = "/test-ui/all";
+    public static final String DATA_ITEM_SELECTOR = "#data-container .data-item";
+    public static final String LOADING_SELECTOR = "#loading-element";
 
     // Text elements
     @FindBy(id = "paragraph-1")
@@ -197,7 +201,7 @@ public class AllElementsPage extends BasePage {
     @Step("Load data asynchronously")
     public AllElementsPage loadData() {
         click(loadDataBtn);
-        waitForElementToBeVisible(By.cssSelector("#data-container .data-item"), 10);
+        waitForElementToBeVisible(By.cssSelector(DATA_ITEM_SELECTOR), 10);
         return this;
     }
 
@@ -206,7 +210,19 @@ public class AllElementsPage extends BasePage {
      */
     @Step("Get loaded data count")
     public int getLoadedDataCount() {
-        return findElements(By.cssSelector("#data-container .data-item")).size();
+        return findElements(By.cssSelector(DATA_ITEM_SELECTOR)).size();
+    }
+
+    /**
+     * Capture the page state once for local checks, e.g.
+     * snapshot.text("#paragraph-1"), snapshot.isVisible("#hidden-text"),
+     * snapshot.isChecked("#checkbox-1") or snapshot.count(DATA_ITEM_SELECTOR)
+     */
+    @Step("Capture snapshot of all elements page")
+    public DomSnapshot snapshot() {
+        DomSnapshot snapshot = captureSnapshot(driver.findElement(By.tagName("body")));
+        log.info("Captured page snapshot, {} data items loaded", snapshot.count(DATA_ITEM_SELECTOR));
+        return snapshot;
     }
 
     /**
@@ -214,13 +230,15 @@ public class AllElementsPage extends BasePage {
      */
     @Step("Fill form with test data")
     public AllElementsPage fillFormWithTestData(String name, String password, String email, String comments) {
-        enterText(name);
-        enterPassword(password);
-        enterEmail(email);
-        enterTextarea(comments);
-        setCheckbox(true);
-        selectRadioOption(1);
-        selectDropdownOption("Option 2");
+        FormFill.Result result = fillForm(FormFill.create()
+                .text(textInput, name)
+                .text(passwordInput, password)
+                .text(emailInput, email)
+                .text(textareaInput, comments)
+                .checkbox(checkbox1, true)
+                .radio(radio1)
+                .selectByText(dropdown, "Option 2"));
+        log.info("Filled form with test data, valid: {}", result.isValid());
         return this;
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package com.peliQAn.framework.pages.basic;
 
 import com.peliQAn.framework.pages.BasePage;
+import com.peliQAn.framework.utils.DragAndDropUtils;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -76,8 +78,8 @@ public class DragDropPage extends BasePage {
     public DragDropPage dragSortableItem(int fromIndex, int toIndex) {
         WebElement fromElement = getSortableItem(fromIndex);
         WebElement toElement = getSortableItem(toIndex);
-        
-        dragAndDrop(fromElement, toElement);
+
+        drag(fromElement, toElement);
         log.info("Dragged sortable item from position {} to position {}", fromIndex, toIndex);
         return this;
     }
@@ -97,7 +99,7 @@ public class DragDropPage extends BasePage {
      */
     @Step("Drag treasure to chest")
     public DragDropPage dragTreasureToChest() {
-        dragAndDrop(treasureItem, treasureChest);
+        drag(treasureItem, treasureChest);
         log.info("Dragged treasure to chest");
         return this;
     }
@@ -158,11 +160,46 @@ public class DragDropPage extends BasePage {
     @Step("Drag trash item at index {index} to trash bin")
     public DragDropPage dragTrashItemToBin(int index) {
         WebElement trashItem = getTrashItem(index);
-        dragAndDrop(trashItem, trashBin);
+        drag(trashItem, trashBin);
         log.info("Dragged trash item at index {} to trash bin", index);
         return this;
     }
 
+    /**
+     * Drag several trash items to trash bin in one call
+     */
+    @Step("Drag trash items at indexes {indexes} to trash bin")
+    public DragDropPage dragTrashItemsToBin(List<Integer> indexes) {
+        List<WebElement> items = new ArrayList<>();
+        for (int index : indexes) {
+            items.add(getTrashItem(index));
+        }
+        DragAndDropUtils.dragAllTo(driver, items, trashBin);
+        log.info("Dragged trash items at indexes {} to trash bin", indexes);
+        return this;
+    }
+
+    /**
+     * Drag all visible trash items to trash bin in one call
+     */
+    @Step("Drag all trash items to trash bin")
+    public DragDropPage dragAllTrashItemsToBin() {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < trashItems.size(); i++) {
+            if (isElementDisplayed(trashItems.get(i))) {
+                indexes.add(i);
+            }
+        }
+        return dragTrashItemsToBin(indexes);
+    }
+
+    /**
+     * Drag with synthetic events, HTML5 or pointer based depending on the source
+     */
+    private void drag(WebElement source, WebElement target) {
+        DragAndDropUtils.drag(driver, waitForElementToBeVisible(source), target);
+    }
+
     /**
      * Get trash count
      */
@@ -1,6 +1,7 @@
 package com.peliQAn.framework.pages.basic;
 
 import com.peliQAn.framework.pages.BasePage;
+import com.peliQAn.framework.pages.FormFill;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
@@ -77,6 +78,8 @@ public class FormsPage extends BasePage {
     @FindBy(id = "submit-dynamic")
     private WebElement submitDynamicButton;
 
+    private FormFill.Result lastValidationFormResult;
+
     /**
      * Navigate to Forms page
      */
@@ -95,10 +98,11 @@ public class FormsPage extends BasePage {
      */
     @Step("Fill simple form with data")
     public FormsPage fillSimpleForm(String name, String email, String password, String comments) {
-        type(nameInput, name);
-        type(emailInput, email);
-        type(passwordInput, password);
-        type(commentsTextarea, comments);
+        fillForm(FormFill.create()
+                .text(nameInput, name)
+                .text(emailInput, email)
+                .text(passwordInput, password)
+                .text(commentsTextarea, comments));
         log.info("Filled simple form with data: name={}, email={}", name, email);
         return this;
     }
@@ -131,14 +135,23 @@ public class FormsPage extends BasePage {
      */
     @Step("Fill validation form with data")
     public FormsPage fillValidationForm(String username, String email, String password, String confirmPassword) {
-        type(usernameInput, username);
-        type(emailValidationInput, email);
-        type(passwordValidationInput, password);
-        type(confirmPasswordInput, confirmPassword);
+        lastValidationFormResult = fillForm(FormFill.create()
+                .text(usernameInput, username)
+                .text(emailValidationInput, email)
+                .text(passwordValidationInput, password)
+                .text(confirmPasswordInput, confirmPassword)
+                .collectErrors(".error-message"));
         log.info("Filled validation form with data: username={}, email={}", username, email);
         return this;
     }
 
+    /**
+     * Get field validation state and error messages reported when the validation form was last filled
+     */
+    public FormFill.Result getLastValidationFormResult() {
+        return lastValidationFormResult;
+    }
+
     /**
      * Submit validation form
      */
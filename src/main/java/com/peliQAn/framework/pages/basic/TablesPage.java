@@ -1,16 +1,22 @@
 package com.peliQAn.framework.pages.basic;
 
 import com.peliQAn.framework.pages.BasePage;
+import com.peliQAn.framework.pages.TableView;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Page object for Tables page (/test-ui/tables)
@@ -19,6 +25,39 @@ import java.util.stream.Collectors;
 public class TablesPage extends BasePage {
 
     private static final String PAGE_URL = "/test-ui/tables";
+    private static final String PAGE_LINK_SELECTOR = ".pagination-container .page-link";
+    private static final long PAGE_CHANGE_TIMEOUT_MS = 10000;
+
+    // Waits until the table differs from the previous page, extracts it and clicks Next right away,
+    // so the browser loads page N+1 while the caller is still working on page N
+    private static final String PAGE_STEP_SCRIPT =
+        "const table = arguments[0];" +
+        "const previous = arguments[1];" +
+        "const linkSelector = arguments[2];" +
+        "const timeout = arguments[3];" +
+        "const done = arguments[arguments.length - 1];" +
+        "const extractTable = function() {" + TABLE_EXTRACT_SCRIPT + "};" +
+        "const signature = () => { const body = table.querySelector('tbody'); return body ? body.innerText : ''; };" +
+        "const changed = () => signature() !== previous && !!table.querySelector('tbody tr td');" +
+        "const finish = () => {" +
+        "  const page = extractTable(table, false);" +
+        "  const current = signature();" +
+        "  const next = Array.from(document.querySelectorAll(linkSelector))" +
+        "    .find(link => ['Next', '\u00bb'].includes((link.innerText || '').trim()));" +
+        "  const disabled = !next || next.disabled || next.getAttribute('aria-disabled') === 'true' || !!next.closest('.disabled');" +
+        "  if (!disabled) { next.click(); }" +
+        "  done({page: page, signature: current, hasNext: !disabled});" +
+        "};" +
+        "if (previous === null || changed()) { finish(); return; }" +
+        "let settle = null;" +
+        "const observer = new MutationObserver(() => {" +
+        "  if (!changed()) { return; }" +
+        // Rows are often replaced one by one; extract once the table has been quiet briefly
+        "  clearTimeout(settle);" +
+        "  settle = setTimeout(() => { observer.disconnect(); clearTimeout(timer); finish(); }, 50);" +
+        "});" +
+        "observer.observe(table, {childList: true, subtree: true, characterData: true});" +
+        "const timer = setTimeout(() => { observer.disconnect(); clearTimeout(settle); done({timeout: true}); }, timeout);";
 
     // Basic table
     @FindBy(id = "basic-table")
@@ -83,33 +122,25 @@ public class TablesPage extends BasePage {
      */
     @Step("Get all rows from basic table")
     public List<Map<String, String>> getBasicTableData() {
-        List<WebElement> headerCells = basicTable.findElements(By.cssSelector("thead th"));
-        List<String> headers = headerCells.stream().map(WebElement::getText).collect(Collectors.toList());
-        
-        List<WebElement> rows = basicTable.findElements(By.cssSelector("tbody tr"));
-        List<Map<String, String>> tableData = rows.stream().map(row -> {
-            List<WebElement> cells = row.findElements(By.tagName("td"));
-            Map<String, String> rowData = new HashMap<>();
-            
-            for (int i = 0; i < headers.size() && i < cells.size(); i++) {
-                rowData.put(headers.get(i), cells.get(i).getText());
-            }
-            
-            return rowData;
-        }).collect(Collectors.toList());
-        
+        List<Map<String, String>> tableData = getBasicTableView().toRowMaps();
         log.info("Got {} rows from basic table", tableData.size());
         return tableData;
     }
 
+    /**
+     * Get basic table as a columnar view
+     */
+    @Step("Get basic table view")
+    public TableView getBasicTableView() {
+        return extractTable(basicTable, false);
+    }
+
     /**
      * Get cell data from basic table
      */
     @Step("Get cell data from basic table at row {rowIndex}, column {columnIndex}")
     public String getBasicTableCellData(int rowIndex, int columnIndex) {
-        WebElement cell = basicTable.findElements(By.cssSelector("tbody tr")).get(rowIndex)
-                        .findElements(By.tagName("td")).get(columnIndex);
-        String cellData = cell.getText();
+        String cellData = extractTableCell(basicTable, rowIndex, columnIndex);
         log.info("Got cell data from basic table at row {}, column {}: {}", rowIndex, columnIndex, cellData);
         return cellData;
     }
@@ -150,25 +181,29 @@ public class TablesPage extends BasePage {
      */
     @Step("Get data from sortable table")
     public List<Map<String, String>> getSortableTableData() {
-        List<WebElement> headerCells = sortableTable.findElements(By.cssSelector("thead th"));
-        List<String> headers = headerCells.stream().map(WebElement::getText).collect(Collectors.toList());
-        
-        List<WebElement> rows = sortableTable.findElements(By.cssSelector("tbody tr"));
-        List<Map<String, String>> tableData = rows.stream().map(row -> {
-            List<WebElement> cells = row.findElements(By.tagName("td"));
-            Map<String, String> rowData = new HashMap<>();
-            
-            for (int i = 0; i < headers.size() && i < cells.size(); i++) {
-                rowData.put(headers.get(i), cells.get(i).getText());
-            }
-            
-            return rowData;
-        }).collect(Collectors.toList());
-        
+        List<Map<String, String>> tableData = getSortableTableView().toRowMaps();
         log.info("Got {} rows from sortable table", tableData.size());
         return tableData;
     }
 
+    /**
+     * Get sortable table as a columnar view
+     */
+    @Step("Get sortable table view")
+    public TableView getSortableTableView() {
+        return extractTable(sortableTable, false);
+    }
+
+    /**
+     * Check that sortable table is sorted by column, numerically for numeric columns
+     */
+    @Step("Check sortable table is sorted by {columnName}, ascending: {ascending}")
+    public boolean isSortableTableSortedBy(String columnName, boolean ascending) {
+        boolean sorted = getSortableTableView().isSorted(columnName, ascending);
+        log.info("Sortable table sorted by {} ({}): {}", columnName, ascending ? "ascending" : "descending", sorted);
+        return sorted;
+    }
+
     /**
      * Navigate to pagination page
      */
@@ -243,25 +278,87 @@ public class TablesPage extends BasePage {
      */
     @Step("Get data from current page of paginated table")
     public List<Map<String, String>> getPaginatedTableData() {
-        List<WebElement> headerCells = paginatedTable.findElements(By.cssSelector("thead th"));
-        List<String> headers = headerCells.stream().map(WebElement::getText).collect(Collectors.toList());
-        
-        List<WebElement> rows = paginatedTable.findElements(By.cssSelector("tbody tr"));
-        List<Map<String, String>> tableData = rows.stream().map(row -> {
-            List<WebElement> cells = row.findElements(By.tagName("td"));
-            Map<String, String> rowData = new HashMap<>();
-            
-            for (int i = 0; i < headers.size() && i < cells.size(); i++) {
-                rowData.put(headers.get(i), cells.get(i).getText());
-            }
-            
-            return rowData;
-        }).collect(Collectors.toList());
-        
+        List<Map<String, String>> tableData = getPaginatedTableView().toRowMaps();
         log.info("Got {} rows from current page of paginated table", tableData.size());
         return tableData;
     }
 
+    /**
+     * Get current page of paginated table as a columnar view
+     */
+    @Step("Get paginated table view")
+    public TableView getPaginatedTableView() {
+        return extractTable(paginatedTable, false);
+    }
+
+    /**
+     * Iterate over all pages of the paginated table, starting from the current page.
+     * Each step extracts a page and immediately requests the next one, so loading overlaps
+     * with whatever the caller does with the page. A page that does not load after clicking Next
+     * fails with a TimeoutException instead of ending the iteration.
+     */
+    @Step("Iterate over pages of paginated table")
+    public Iterator<TableView> paginatedTablePages() {
+        return new PageIterator();
+    }
+
+    /**
+     * Lazily stream rows of all pages of the paginated table; pages are only loaded as the stream is consumed
+     */
+    @Step("Stream rows of all pages of paginated table")
+    public Stream<Map<String, String>> streamPaginatedTableRows() {
+        Spliterator<TableView> pages = Spliterators.spliteratorUnknownSize(paginatedTablePages(),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(pages, false).flatMap(page -> page.toRowMaps().stream());
+    }
+
+    /**
+     * Iterator driving the paginated table one script call per page
+     */
+    private class PageIterator implements Iterator<TableView> {
+        private String previousSignature;
+        private boolean morePages = true;
+        private TableView nextPage;
+        private int pageCount;
+
+        @Override
+        public boolean hasNext() {
+            if (nextPage == null && morePages) {
+                nextPage = fetchPage();
+            }
+            return nextPage != null;
+        }
+
+        @Override
+        public TableView next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more pages in paginated table");
+            }
+            TableView page = nextPage;
+            nextPage = null;
+            return page;
+        }
+
+        @SuppressWarnings("unchecked")
+        private TableView fetchPage() {
+            Map<String, Object> step = (Map<String, Object>) js.executeAsyncScript(PAGE_STEP_SCRIPT,
+                    paginatedTable, previousSignature, PAGE_LINK_SELECTOR, PAGE_CHANGE_TIMEOUT_MS);
+
+            if (Boolean.TRUE.equals(step.get("timeout"))) {
+                // Next was clickable, so the table should have changed; stopping here would silently lose pages
+                throw new TimeoutException("Paginated table did not change within " + PAGE_CHANGE_TIMEOUT_MS
+                        + " ms after clicking Next, after reading " + pageCount + " pages");
+            }
+
+            previousSignature = (String) step.get("signature");
+            morePages = Boolean.TRUE.equals(step.get("hasNext"));
+            pageCount++;
+            TableView page = toTableView(step.get("page"));
+            log.info("Read page {} of paginated table with {} rows", pageCount, page.getRowCount());
+            return page;
+        }
+    }
+
     /**
      * Filter table by search term
      */
@@ -291,27 +388,20 @@ public class TablesPage extends BasePage {
      */
     @Step("Get data from filtered table")
     public List<Map<String, String>> getFilteredTableData() {
-        List<WebElement> headerCells = filterableTable.findElements(By.cssSelector("thead th"));
-        List<String> headers = headerCells.stream().map(WebElement::getText).collect(Collectors.toList());
-        
-        List<WebElement> rows = filterableTable.findElements(By.cssSelector("tbody tr"));
-        List<Map<String, String>> tableData = rows.stream()
-                .filter(row -> row.isDisplayed()) // Only get visible rows
-                .map(row -> {
-                    List<WebElement> cells = row.findElements(By.tagName("td"));
-                    Map<String, String> rowData = new HashMap<>();
-                    
-                    for (int i = 0; i < headers.size() && i < cells.size(); i++) {
-                        rowData.put(headers.get(i), cells.get(i).getText());
-                    }
-                    
-                    return rowData;
-                }).collect(Collectors.toList());
-        
+        List<Map<String, String>> tableData = getFilteredTableView().toRowMaps();
         log.info("Got {} rows from filtered table", tableData.size());
         return tableData;
     }
 
+    /**
+     * Get visible rows of filtered table as a columnar view
+     */
+    @Step("Get filtered table view")
+    public TableView getFilteredTableView() {
+        // Only get visible rows
+        return extractTable(filterableTable, true);
+    }
+
     /**
      * Edit cell in editable table
      */
@@ -1,9 +1,13 @@
 package com.peliQAn.framework.pages.hardcore;
 
 import com.peliQAn.framework.pages.BasePage;
+import com.peliQAn.framework.pages.FramePath;
+import com.peliQAn.framework.utils.FrameTreeUtils;
+import com.peliQAn.framework.utils.FrameTreeUtils.FrameSnapshot;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -20,6 +24,12 @@ import java.util.Map;
 public class IframeInceptionChallengePage extends BasePage {
 
     private static final String PAGE_URL = "/test-ui/hardcore/iframe-inception";
+    private static final String KEY_SELECTOR = ".treasure-key, .key-fragment, [data-key]";
+    private static final String LOADING_SELECTOR = ".loading";
+    private static final Map<String, String> FRAME_SELECTORS = Map.of(
+            "keys", KEY_SELECTOR,
+            "buttons", "button",
+            "inputs", "input:not([type='hidden'])");
 
     // Main elements
     @FindBy(id = "start-challenge-btn")
@@ -77,12 +87,42 @@ public class IframeInceptionChallengePage extends BasePage {
      */
     @Step("Navigate through all nested iframe levels")
     public IframeInceptionChallengePage navigateThroughAllIframes() {
-        // Start by switching to the root iframe
-        switchToFrame(rootIframe);
+        switchToDefaultContent();
         
-        // Begin recursive exploration
         try {
-            exploreIframeLevel("root");
+            // One script reads keys, buttons and inputs of every same-origin frame
+            List<FrameSnapshot> frames = harvestFrameTree();
+            collectKeysFromSnapshots(frames);
+            
+            // Some keys might need to be clicked to be collected
+            FrameTreeUtils.clickInAllFrames(driver, KEY_SELECTOR);
+            
+            // Switch only into frames that need native interaction or can't be read from outside.
+            // Frames come in document order, so moving between siblings is one switch up and one down.
+            boolean performedActions = false;
+            for (FrameSnapshot frame : frames) {
+                if (frame.getPath().isEmpty()) {
+                    continue;
+                }
+                visitedIframes.put(frame.getPathName(), true);
+                
+                if (!frame.isAccessible()) {
+                    log.info("Iframe {} is cross-origin, exploring it by switching", frame.getPathName());
+                    switchToFramePath(FramePath.ofIndices(frame.getPath()));
+                    exploreIframeLevel(frame.getPathName());
+                } else if (needsNativeActions(frame)) {
+                    log.info("Performing actions in iframe: {}", frame.getPathName());
+                    switchToFramePath(FramePath.ofIndices(frame.getPath()));
+                    performActionsInCurrentFrame(false);
+                    performedActions = true;
+                }
+            }
+            
+            // Actions may have revealed more keys, pick them up in one more pass
+            if (performedActions) {
+                switchToDefaultContent();
+                collectKeysFromSnapshots(harvestFrameTree());
+            }
         } finally {
             // Make sure we return to the main page when done
             switchToDefaultContent();
@@ -92,6 +132,63 @@ public class IframeInceptionChallengePage extends BasePage {
         return this;
     }
     
+    /**
+     * Harvest the frame tree once it is complete: every frame loaded and no new frames
+     * appearing between two polls, since nested frames are only inserted as their parents load
+     */
+    @Step("Harvest frame tree")
+    private List<FrameSnapshot> harvestFrameTree() {
+        int[] previousSize = {-1};
+        try {
+            return wait.until(d -> {
+                List<FrameSnapshot> frames = FrameTreeUtils.harvest(driver, FRAME_SELECTORS, LOADING_SELECTOR);
+                boolean loading = frames.stream().anyMatch(FrameSnapshot::isLoading);
+                boolean stable = frames.size() == previousSize[0];
+                previousSize[0] = frames.size();
+                return loading || !stable ? null : frames;
+            });
+        } catch (TimeoutException e) {
+            log.debug("Frame tree did not finish loading, using current state: {}", e.getMessage());
+            return FrameTreeUtils.harvest(driver, FRAME_SELECTORS, LOADING_SELECTOR);
+        }
+    }
+    
+    /**
+     * Collect keys reported by frame snapshots
+     */
+    private void collectKeysFromSnapshots(List<FrameSnapshot> frames) {
+        for (FrameSnapshot frame : frames) {
+            if (frame.getPath().isEmpty()) {
+                continue;
+            }
+            for (Map<String, Object> keyElement : frame.getMatches("keys")) {
+                Object keyText = keyElement.get("text");
+                if (keyText == null || keyText.toString().isEmpty()) {
+                    keyText = keyElement.get("dataKey");
+                }
+                
+                if (keyText != null && !keyText.toString().isEmpty() && !collectedKeys.contains(keyText.toString())) {
+                    collectedKeys.add(keyText.toString());
+                    log.info("Collected key: {} from iframe {}", keyText, frame.getPathName());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Check if a frame has buttons or inputs that need real interaction
+     */
+    private boolean needsNativeActions(FrameSnapshot frame) {
+        boolean hasButtons = frame.getMatches("buttons").stream().anyMatch(button -> {
+            String text = String.valueOf(button.get("text"));
+            return Boolean.TRUE.equals(button.get("visible")) && !text.isEmpty()
+                    && !text.equals("Start") && !text.equals("Validate");
+        });
+        boolean hasInputs = frame.getMatches("inputs").stream().anyMatch(input ->
+                Boolean.TRUE.equals(input.get("visible")) && Boolean.TRUE.equals(input.get("enabled")));
+        return hasButtons || hasInputs;
+    }
+    
     /**
      * Explore a single iframe level and its children recursively
      */
@@ -131,7 +228,7 @@ public class IframeInceptionChallengePage extends BasePage {
             }
             
             // Check if there are any action buttons to click in this frame
-            performActionsInCurrentFrame();
+            performActionsInCurrentFrame(true);
             
         } catch (Exception e) {
             log.error("Error exploring iframe {}: {}", frameId, e.getMessage());
@@ -153,12 +250,12 @@ public class IframeInceptionChallengePage extends BasePage {
                 }
                 
                 // Look for key elements
-                keyElements = driver.findElements(By.cssSelector(".treasure-key, .key-fragment, [data-key]"));
+                keyElements = driver.findElements(By.cssSelector(KEY_SELECTOR));
                 
                 // If not found, wait a bit and try again (for dynamically loaded keys)
                 if (keyElements.isEmpty()) {
                     Thread.sleep(1000);
-                    keyElements = driver.findElements(By.cssSelector(".treasure-key, .key-fragment, [data-key]"));
+                    keyElements = driver.findElements(By.cssSelector(KEY_SELECTOR));
                 }
             } catch (Exception e) {
                 log.debug("Exception waiting for key elements: {}", e.getMessage());
@@ -194,8 +291,11 @@ public class IframeInceptionChallengePage extends BasePage {
     
     /**
      * Perform any actions needed in the current iframe
+     *
+     * @param recheckKeys look for keys again after every action; not needed when the
+     *                    whole frame tree is harvested again afterwards
      */
-    private void performActionsInCurrentFrame() {
+    private void performActionsInCurrentFrame(boolean recheckKeys) {
         try {
             // Look for buttons
             List<WebElement> actionButtons = driver.findElements(By.tagName("button"));
@@ -207,11 +307,13 @@ public class IframeInceptionChallengePage extends BasePage {
                     log.info("Clicking button: {}", button.getText());
                     button.click();
                     
-                    // Give time for any animations or effects
-                    Thread.sleep(500);
-                    
-                    // Recheck for keys after action
-                    collectKeysInCurrentFrame();
+                    if (recheckKeys) {
+                        // Give time for any animations or effects
+                        Thread.sleep(500);
+                        
+                        // Recheck for keys after action
+                        collectKeysInCurrentFrame();
+                    }
                 }
             }
             
@@ -231,9 +333,11 @@ public class IframeInceptionChallengePage extends BasePage {
                             submit.click();
                             log.info("Submitted form");
                             
-                            // Recheck for keys after form submission
-                            Thread.sleep(500);
-                            collectKeysInCurrentFrame();
+                            if (recheckKeys) {
+                                // Recheck for keys after form submission
+                                Thread.sleep(500);
+                                collectKeysInCurrentFrame();
+                            }
                         }
                     }
                 }
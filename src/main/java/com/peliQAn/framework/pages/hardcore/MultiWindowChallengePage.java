@@ -1,6 +1,8 @@
 package com.peliQAn.framework.pages.hardcore;
 
 import com.peliQAn.framework.pages.BasePage;
+import com.peliQAn.framework.utils.CrossWindowExecutor;
+import com.peliQAn.framework.utils.MultiWindowUtils;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
@@ -9,6 +11,7 @@ import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -19,6 +22,41 @@ public class MultiWindowChallengePage extends BasePage {
 
     private static final String PAGE_URL = "/test-ui/hardcore/multi-window";
 
+    // Processes one treasure window in place: reads the clue, fills required inputs,
+    // clicks task buttons and opens the next window, all without switching focus
+    private static final String PROCESS_WINDOW_SCRIPT =
+        "const windowNumber = arguments[0];" +
+        "const isVisible = el => !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length);" +
+        "const waitFor = (selector, timeoutMs) => new Promise(resolve => {" +
+        "  const found = document.querySelector(selector);" +
+        "  if (found && isVisible(found)) { resolve(found); return; }" +
+        "  const observer = new MutationObserver(() => {" +
+        "    const el = document.querySelector(selector);" +
+        "    if (el && isVisible(el)) { observer.disconnect(); resolve(el); }" +
+        "  });" +
+        "  observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true});" +
+        "  setTimeout(() => { observer.disconnect(); resolve(null); }, timeoutMs);" +
+        "});" +
+        "return waitFor('.treasure-clue', 10000).then(clueElement => {" +
+        "  const result = {clue: clueElement ? clueElement.innerText.trim() : null, openedNext: false, tasks: 0};" +
+        "  const nextButton = document.querySelector('.open-next-window-btn');" +
+        "  if (nextButton && isVisible(nextButton)) { nextButton.click(); result.openedNext = true; }" +
+        "  const valueSetter = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;" +
+        "  document.querySelectorAll('input[required]').forEach(input => {" +
+        "    valueSetter.call(input, input.value + 'treasure' + windowNumber);" +
+        "    input.dispatchEvent(new Event('input', {bubbles: true}));" +
+        "    input.dispatchEvent(new Event('change', {bubbles: true}));" +
+        "    result.tasks++;" +
+        "  });" +
+        "  document.querySelectorAll('button:not(.open-next-window-btn)').forEach(button => {" +
+        "    if (isVisible(button) && !button.disabled && button.id !== 'validate-btn') {" +
+        "      button.click();" +
+        "      result.tasks++;" +
+        "    }" +
+        "  });" +
+        "  return result;" +
+        "});";
+
     // Main elements
     @FindBy(id = "start-challenge-btn")
     private WebElement startChallengeButton;
@@ -91,6 +129,10 @@ public class MultiWindowChallengePage extends BasePage {
         // Start from the first window
         openFirstWindow();
         
+        if (CrossWindowExecutor.forDriver(driver).isPresent()) {
+            return navigateThroughAllWindowsConcurrently();
+        }
+        
         int windowCounter = 1;
         Set<String> processedWindows = new HashSet<>();
         processedWindows.add(mainWindowHandle);
@@ -118,6 +160,71 @@ public class MultiWindowChallengePage extends BasePage {
         return this;
     }
     
+    /**
+     * Collect clues from all windows without switching focus.
+     * Every batch of newly opened windows is processed concurrently, then we wait
+     * for the windows those batches opened and repeat until no new ones appear.
+     */
+    private MultiWindowChallengePage navigateThroughAllWindowsConcurrently() {
+        CrossWindowExecutor executor = CrossWindowExecutor.forDriver(driver).orElseThrow();
+        int windowCounter = 1;
+        Set<String> processedWindows = new HashSet<>();
+        processedWindows.add(mainWindowHandle);
+        
+        List<String> unprocessedWindows = new ArrayList<>(driver.getWindowHandles());
+        unprocessedWindows.removeAll(processedWindows);
+        
+        while (!unprocessedWindows.isEmpty()) {
+            Map<String, Object> results = new LinkedHashMap<>();
+            Map<String, Integer> windowNumbers = new HashMap<>();
+            for (String windowHandle : unprocessedWindows) {
+                windowNumbers.put(windowHandle, windowCounter++);
+            }
+            
+            // Fan out: one script per window, all in flight at once
+            Map<String, CompletableFuture<Object>> pending = new LinkedHashMap<>();
+            for (String windowHandle : unprocessedWindows) {
+                pending.put(windowHandle,
+                        executor.executeAsync(windowHandle, PROCESS_WINDOW_SCRIPT, windowNumbers.get(windowHandle)));
+            }
+            pending.forEach((windowHandle, future) -> {
+                try {
+                    results.put(windowHandle, future.join());
+                } catch (Exception e) {
+                    log.error("Error processing window {}: {}", windowNumbers.get(windowHandle), e.getMessage());
+                }
+            });
+            processedWindows.addAll(unprocessedWindows);
+            
+            int windowsToWaitFor = 0;
+            for (Map.Entry<String, Object> entry : results.entrySet()) {
+                Map<?, ?> result = (Map<?, ?>) entry.getValue();
+                int windowNumber = windowNumbers.get(entry.getKey());
+                Object clue = result.get("clue");
+                if (clue != null) {
+                    collectedClues.put("Window " + windowNumber, clue.toString());
+                    log.info("Collected clue from window {}: {}", windowNumber, clue);
+                }
+                if (Boolean.TRUE.equals(result.get("openedNext"))) {
+                    windowsToWaitFor++;
+                    log.info("Opened next window from window {}", windowNumber);
+                }
+            }
+            
+            // Each wait resolves as soon as the browser reports the new target
+            Set<String> knownWindows = new HashSet<>(processedWindows);
+            for (int i = 0; i < windowsToWaitFor; i++) {
+                knownWindows.add(MultiWindowUtils.waitForNewWindow(driver, knownWindows));
+            }
+            
+            unprocessedWindows = new ArrayList<>(driver.getWindowHandles());
+            unprocessedWindows.removeAll(processedWindows);
+        }
+        
+        log.info("Collected clues from all windows: {}", collectedClues);
+        return this;
+    }
+    
     /**
      * Process a single window to collect clues
      */
@@ -333,17 +440,7 @@ public class MultiWindowChallengePage extends BasePage {
      */
     @Step("Close all windows except main window")
     public MultiWindowChallengePage closeAllWindows() {
-        Set<String> handles = driver.getWindowHandles();
-        
-        for (String handle : handles) {
-            if (!handle.equals(mainWindowHandle)) {
-                driver.switchTo().window(handle);
-                driver.close();
-                log.info("Closed window: {}", handle);
-            }
-        }
-        
-        driver.switchTo().window(mainWindowHandle);
+        MultiWindowUtils.closeAllWindowsExcept(driver, mainWindowHandle);
         log.info("Switched back to main window");
         return this;
     }
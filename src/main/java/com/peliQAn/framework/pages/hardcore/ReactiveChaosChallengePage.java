@@ -1,6 +1,11 @@
 package com.peliQAn.framework.pages.hardcore;
 
 import com.peliQAn.framework.pages.BasePage;
+import com.peliQAn.framework.utils.NetworkStreamTap;
+import com.peliQAn.framework.utils.NetworkStreamTap.Gap;
+import com.peliQAn.framework.utils.NetworkStreamTap.StreamFrame;
+import com.peliQAn.framework.utils.StreamRecorder;
+import com.peliQAn.framework.utils.StreamTimeSeries;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
@@ -13,6 +18,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
 
 /**
  * Page object for Reactive Chaos Challenge (/test-ui/hardcore/reactive-chaos)
@@ -21,6 +28,10 @@ import java.util.Map;
 public class ReactiveChaosChallengePage extends BasePage {
 
     private static final String PAGE_URL = "/test-ui/hardcore/reactive-chaos";
+    private static final String STREAM_CONTAINER_SELECTOR = "#data-streams-container";
+    private static final String STREAM_SELECTOR = ".data-stream";
+    private static final String STREAM_VALUE_SELECTOR = ".stream-value";
+    private static final Duration MONITOR_DURATION = Duration.ofSeconds(5);
 
     // Main elements
     @FindBy(id = "start-challenge-btn")
@@ -64,6 +75,8 @@ public class ReactiveChaosChallengePage extends BasePage {
     // Progress tracking
     private int currentStep = 0;
     private final Map<String, String> streamValues = new HashMap<>();
+    private StreamRecorder streamRecorder;
+    private NetworkStreamTap networkStreamTap;
 
     /**
      * Navigate to Reactive Chaos Challenge page
@@ -72,6 +85,8 @@ public class ReactiveChaosChallengePage extends BasePage {
     public ReactiveChaosChallengePage navigateToPage() {
         navigateTo(baseUrl + PAGE_URL);
         waitForPageToLoad();
+        // A recorder installed in the previous document is gone after navigation
+        streamRecorder = null;
         log.info("Navigated to Reactive Chaos Challenge page");
         return this;
     }
@@ -81,6 +96,11 @@ public class ReactiveChaosChallengePage extends BasePage {
      */
     @Step("Start the Reactive Chaos challenge")
     public ReactiveChaosChallengePage startChallenge() {
+        // Tap the network before the stream connects so no source message is missed
+        networkStreamTap = NetworkStreamTap.forDriver(driver).orElse(null);
+        if (networkStreamTap != null) {
+            networkStreamTap.clear();
+        }
         click(startChallengeButton);
         waitForElementToBeVisible(dataStreamsContainer);
         log.info("Started Reactive Chaos challenge");
@@ -95,39 +115,15 @@ public class ReactiveChaosChallengePage extends BasePage {
         // Wait for data streams to appear
         wait.until(ExpectedConditions.visibilityOfAllElements(dataStreams));
         
-        // Create a shorter wait for checking data streams
-        var streamWait = new WebDriverWait(driver, Duration.ofMillis(100));
-        
-        // Monitor streams for about 5 seconds
-        long endTime = System.currentTimeMillis() + 5000;
-        
-        while (System.currentTimeMillis() < endTime) {
-            for (WebElement stream : dataStreams) {
-                try {
-                    // Get stream ID
-                    String streamId = stream.getAttribute("id");
-                    
-                    // Get current value
-                    WebElement valueElement = streamWait.until(
-                        ExpectedConditions.visibilityOf(stream.findElement(By.className("stream-value"))));
-                    
-                    String value = valueElement.getText();
-                    
-                    // Store the value
-                    streamValues.put(streamId, value);
-                } catch (Exception e) {
-                    // Ignore errors during stream monitoring
-                }
-            }
-            
-            // Short sleep
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+        // The recorder observes the container, so streams added in later steps are picked up too
+        if (streamRecorder == null) {
+            streamRecorder = StreamRecorder.start(driver, STREAM_CONTAINER_SELECTOR, STREAM_SELECTOR, STREAM_VALUE_SELECTOR);
         }
         
+        // Monitor streams for about 5 seconds, draining recorded changes in batches
+        streamRecorder.recordFor(MONITOR_DURATION);
+        streamValues.putAll(streamRecorder.latestValues());
+        
         log.info("Monitored data streams, captured {} stream values", streamValues.size());
         return this;
     }
@@ -137,7 +133,96 @@ public class ReactiveChaosChallengePage extends BasePage {
      */
     @Step("Capture values at specific moment")
     public Map<String, String> captureValuesAtSpecificMoment() {
-        // Capture stream values at a specific moment
+        if (streamRecorder == null) {
+            return readCurrentValues();
+        }
+        
+        // Fix the moment first, then look it up in the complete change history
+        double moment = streamRecorder.pageTime();
+        streamRecorder.drain();
+        Map<String, String> capturedValues = new HashMap<>(streamRecorder.valuesAt(moment));
+        capturedValues.forEach((streamId, value) -> log.info("Captured value for stream {}: {}", streamId, value));
+        return capturedValues;
+    }
+
+    /**
+     * Get stream values as they were at the given page time (performance.now() milliseconds)
+     */
+    @Step("Get stream values at page time {pageTime}")
+    public Map<String, String> getStreamValuesAt(double pageTime) {
+        if (streamRecorder == null) {
+            throw new IllegalStateException("Streams are not being recorded, call monitorDataStreams first");
+        }
+        streamRecorder.drain();
+        return streamRecorder.valuesAt(pageTime);
+    }
+
+    /**
+     * Get the recorded change history of a stream
+     */
+    public StreamTimeSeries getStreamHistory(String streamId) {
+        return streamRecorder == null ? null : streamRecorder.getSeries(streamId);
+    }
+
+    /**
+     * Get WebSocket and SSE messages received since the challenge started, empty without CDP
+     */
+    @Step("Get source stream messages")
+    public List<StreamFrame> getSourceMessages() {
+        return networkStreamTap == null ? new ArrayList<>() : networkStreamTap.getFrames();
+    }
+
+    /**
+     * Wait until the given number of source messages arrived, without waiting for rendering
+     */
+    @Step("Wait for {count} source stream messages")
+    public List<StreamFrame> waitForSourceMessages(int count, Duration timeout) {
+        if (networkStreamTap == null) {
+            throw new IllegalStateException("Network stream tap needs a browser with CDP support");
+        }
+        return networkStreamTap.awaitFrames(frame -> true, count, timeout);
+    }
+
+    /**
+     * Check that source messages arrived in order, using the SSE event id or a JSON field as sequence number
+     */
+    @Step("Check source stream messages are ordered by {sequenceField}")
+    public boolean areSourceMessagesOrdered(String sequenceField) {
+        return NetworkStreamTap.isOrdered(getSourceMessages(), sourceSequence(sequenceField));
+    }
+
+    /**
+     * Find gaps in the source message sequence
+     */
+    @Step("Find gaps in source stream messages by {sequenceField}")
+    public List<Gap> getSourceMessageGaps(String sequenceField) {
+        List<Gap> gaps = NetworkStreamTap.findGaps(getSourceMessages(), sourceSequence(sequenceField));
+        log.info("Found {} gaps in source stream messages", gaps.size());
+        return gaps;
+    }
+
+    /**
+     * Source messages per second since the challenge started
+     */
+    @Step("Get source stream throughput")
+    public double getSourceMessageThroughput() {
+        double throughput = NetworkStreamTap.throughput(getSourceMessages());
+        log.info("Source stream throughput: {} messages/s", throughput);
+        return throughput;
+    }
+
+    private static Function<StreamFrame, OptionalLong> sourceSequence(String sequenceField) {
+        Function<StreamFrame, OptionalLong> eventId = NetworkStreamTap.eventIdSequence();
+        Function<StreamFrame, OptionalLong> jsonField = NetworkStreamTap.jsonSequence(sequenceField);
+        return frame -> NetworkStreamTap.EVENT_SOURCE.equals(frame.getKind()) && frame.getEventId() != null
+                ? eventId.apply(frame)
+                : jsonField.apply(frame);
+    }
+
+    /**
+     * Read current stream values element by element
+     */
+    private Map<String, String> readCurrentValues() {
         Map<String, String> capturedValues = new HashMap<>();
         
         for (WebElement stream : dataStreams) {
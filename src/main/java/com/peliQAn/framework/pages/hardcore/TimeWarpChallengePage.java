@@ -1,6 +1,7 @@
 package com.peliQAn.framework.pages.hardcore;
 
 import com.peliQAn.framework.pages.BasePage;
+import com.peliQAn.framework.utils.TimeUtils;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
@@ -8,6 +9,7 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -93,25 +95,8 @@ public class TimeWarpChallengePage extends BasePage {
         LocalDateTime dateTime = LocalDateTime.parse(dateTimeString, 
                 DateTimeFormatter.ISO_DATE_TIME);
         
-        // Calculate milliseconds since epoch
-        long timestamp = dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
-        
-        // Override JavaScript Date using script
-        String script = 
-            "const originalDate = Date;" +
-            "const timestamp = " + timestamp + ";" +
-            "const customDate = new Date(timestamp);" +
-            "Date = class extends originalDate {" +
-            "  constructor() {" +
-            "    super();" +
-            "    return customDate;" +
-            "  }" +
-            "  static now() {" +
-            "    return timestamp;" +
-            "  }" +
-            "}";
-        
-        js.executeScript(script);
+        // Shift the page clock; Date stays a real Date and timers keep working
+        TimeUtils.setBrowserDateTime(driver, dateTime);
         
         // Set the date in the time machine UI
         WebElement dateInput = timeMachine.findElement(By.id("date-input"));
@@ -140,13 +125,8 @@ public class TimeWarpChallengePage extends BasePage {
      */
     @Step("Set browser timezone to UTC{timezoneOffset}")
     public TimeWarpChallengePage setTimezoneOffset(int timezoneOffset) {
-        // Store original method
-        js.executeScript(
-            "if (!window.originalGetTimezoneOffset) {" +
-            "  window.originalGetTimezoneOffset = Date.prototype.getTimezoneOffset;" +
-            "}" +
-            "Date.prototype.getTimezoneOffset = function() { return " + (-timezoneOffset * 60) + "; };"
-        );
+        // Emulate the timezone itself, not just getTimezoneOffset
+        TimeUtils.setBrowserTimezone(driver, ZoneOffset.ofHours(timezoneOffset));
         
         // Set the timezone in UI
         WebElement timezoneSelect = timeMachine.findElement(By.id("timezone-select"));
@@ -162,6 +142,16 @@ public class TimeWarpChallengePage extends BasePage {
         return this;
     }
 
+    /**
+     * Fast-forward page time, running the page's timers without waiting in real time
+     */
+    @Step("Advance browser time by: {duration}")
+    public TimeWarpChallengePage advanceTime(Duration duration) {
+        TimeUtils.advanceBrowserTime(driver, duration);
+        log.info("Advanced browser time by: {}", duration);
+        return this;
+    }
+
     /**
      * Get past artifact by traveling to 2001
      */
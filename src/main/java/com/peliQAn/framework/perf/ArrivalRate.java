@@ -0,0 +1,82 @@
+package com.peliQAn.framework.perf;
+
+import java.time.Duration;
+
+/**
+ * Open-model arrival schedule: when each request should start, independent of how fast
+ * earlier requests complete. The rate ramps linearly from a start to an end rate over the
+ * duration; a constant rate is a ramp with equal ends.
+ */
+public final class ArrivalRate {
+
+    private final double startPerSecond;
+    private final double endPerSecond;
+    private final double durationSeconds;
+
+    private ArrivalRate(double startPerSecond, double endPerSecond, Duration duration) {
+        if (startPerSecond < 0 || endPerSecond < 0 || startPerSecond + endPerSecond == 0) {
+            throw new IllegalArgumentException("Arrival rates must be non-negative and not both zero");
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        }
+        this.startPerSecond = startPerSecond;
+        this.endPerSecond = endPerSecond;
+        this.durationSeconds = duration.toNanos() / 1e9;
+    }
+
+    /**
+     * The same number of requests every second
+     */
+    public static ArrivalRate constant(double perSecond, Duration duration) {
+        return new ArrivalRate(perSecond, perSecond, duration);
+    }
+
+    /**
+     * Rate growing (or shrinking) linearly from one rate to another
+     */
+    public static ArrivalRate ramp(double fromPerSecond, double toPerSecond, Duration duration) {
+        return new ArrivalRate(fromPerSecond, toPerSecond, duration);
+    }
+
+    /**
+     * Number of requests scheduled over the whole duration
+     */
+    public long getTotalArrivals() {
+        return (long) Math.floor(arrivalsUntil(durationSeconds));
+    }
+
+    public Duration getDuration() {
+        return Duration.ofNanos((long) (durationSeconds * 1e9));
+    }
+
+    /**
+     * Intended start of the request with the given index, in nanoseconds from the start of the run
+     */
+    public long intendedStartNanos(long index) {
+        return (long) (timeOfArrival(index) * 1e9);
+    }
+
+    // N(t) = r0 * t + (r1 - r0) * t^2 / (2T)
+    private double arrivalsUntil(double seconds) {
+        double slope = (endPerSecond - startPerSecond) / durationSeconds;
+        return startPerSecond * seconds + slope * seconds * seconds / 2;
+    }
+
+    // Solves N(t) = n for t
+    private double timeOfArrival(long n) {
+        double slope = (endPerSecond - startPerSecond) / durationSeconds;
+        if (Math.abs(slope) < 1e-12) {
+            return n / startPerSecond;
+        }
+        double discriminant = startPerSecond * startPerSecond + 2 * slope * n;
+        return (Math.sqrt(Math.max(discriminant, 0)) - startPerSecond) / slope;
+    }
+
+    @Override
+    public String toString() {
+        return startPerSecond == endPerSecond
+                ? String.format("%.1f/s for %.0fs", startPerSecond, durationSeconds)
+                : String.format("%.1f/s to %.1f/s over %.0fs", startPerSecond, endPerSecond, durationSeconds);
+    }
+}
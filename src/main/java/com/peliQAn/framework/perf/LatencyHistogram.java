@@ -0,0 +1,140 @@
+package com.peliQAn.framework.perf;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Log-linear latency histogram with lock-free, allocation-free recording.
+ * Values are microseconds. Each power of two is split into 32 linear sub-buckets, so a recorded
+ * value is reported within about 3% of its true value; values below 64 µs are exact.
+ * Counts live in a primitive long[] updated atomically through a VarHandle.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    // Covers up to 2^37 µs, about 38 hours
+    private static final int MAX_SHIFT = 31;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + MAX_SHIFT * SUB_BUCKETS;
+    private static final long MAX_TRACKABLE = ((long) LINEAR_LIMIT << MAX_SHIFT) - 1;
+    private static final VarHandle BUCKETS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record one latency in microseconds; negative values count as zero, huge ones are clamped
+     */
+    public void record(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_TRACKABLE));
+        BUCKETS.getAndAdd(buckets, bucketIndex(value), 1L);
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int top = (int) (value >>> shift);
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (top - SUB_BUCKETS);
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long top = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return top << shift;
+    }
+
+    static long bucketUpperBound(int index) {
+        return index + 1 < BUCKET_COUNT ? bucketLowerBound(index + 1) - 1 : MAX_TRACKABLE;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    public double getMeanMicros() {
+        long n = count.get();
+        return n == 0 ? Double.NaN : (double) sum.get() / n;
+    }
+
+    /**
+     * Value at the percentile (0-100) in microseconds: the upper bound of the bucket holding that rank,
+     * capped at the recorded maximum. NaN for an empty histogram.
+     */
+    public double percentileMicros(double percentile) {
+        long[] counts = snapshotCounts();
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Consistent-enough copy of the bucket counts for reporting while recording continues
+     */
+    long[] snapshotCounts() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = (long) BUCKETS.getVolatile(buckets, i);
+        }
+        return copy;
+    }
+
+    /**
+     * Count, mean, max and common percentiles in milliseconds
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", getCount());
+        summary.put("meanMs", getMeanMicros() / 1000);
+        summary.put("p50Ms", percentileMicros(50) / 1000);
+        summary.put("p90Ms", percentileMicros(90) / 1000);
+        summary.put("p99Ms", percentileMicros(99) / 1000);
+        summary.put("p999Ms", percentileMicros(99.9) / 1000);
+        summary.put("maxMs", getMaxMicros() / 1000.0);
+        return summary;
+    }
+
+    /**
+     * Non-empty buckets as lower bound in microseconds to count
+     */
+    public Map<Long, Long> nonEmptyBuckets() {
+        Map<Long, Long> nonEmpty = new LinkedHashMap<>();
+        long[] counts = snapshotCounts();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                nonEmpty.put(bucketLowerBound(i), counts[i]);
+            }
+        }
+        return nonEmpty;
+    }
+}
@@ -0,0 +1,104 @@
+package com.peliQAn.framework.perf;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.peliQAn.framework.api.ApiJson;
+import com.peliQAn.framework.api.HttpCacheFilter;
+import com.peliQAn.framework.api.LatencyHistogramFilter;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes API latency histograms when a TestNG suite finishes: as JSON under target
+ * and as an Allure result with a percentile table per endpoint, plus HTTP cache usage if any client cached.
+ */
+@Slf4j
+public class LatencyReportListener implements ISuiteListener {
+
+    private static final String REPORT_FILE = "target/api-latency-histograms.json";
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, LatencyHistogram> histograms = LatencyHistogramFilter.getInstance().getHistograms();
+        if (histograms.isEmpty()) {
+            return;
+        }
+        try {
+            String json = toJson(histograms);
+            Path report = Paths.get(REPORT_FILE);
+            Files.createDirectories(report.getParent());
+            Files.write(report, json.getBytes(StandardCharsets.UTF_8));
+            HttpCacheFilter.Stats cacheStats = HttpCacheFilter.totalStats();
+            attachToAllure(suite.getName(), json, percentileTable(histograms),
+                    cacheStats.getRequests() > 0 ? cacheStats.toString() : null);
+            log.info("Published latency histograms for {} endpoints to {}", histograms.size(), REPORT_FILE);
+            log.info("HTTP cache: {}", cacheStats);
+        } catch (Exception e) {
+            log.warn("Could not publish latency histograms: {}", e.getMessage());
+        }
+    }
+
+    private static String toJson(Map<String, LatencyHistogram> histograms) throws JsonProcessingException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        histograms.forEach((endpoint, histogram) -> {
+            Map<String, Object> entry = new LinkedHashMap<>(histogram.summary());
+            entry.put("bucketsMicros", histogram.nonEmptyBuckets());
+            endpoints.put(endpoint, entry);
+        });
+        return ApiJson.mapper().writerWithDefaultPrettyPrinter().writeValueAsString(endpoints);
+    }
+
+    static String percentileTable(Map<String, LatencyHistogram> histograms) {
+        StringBuilder html = new StringBuilder("<table border=\"1\" cellpadding=\"4\"><tr><th>Endpoint</th>"
+                + "<th>Count</th><th>p50 ms</th><th>p90 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>Max ms</th></tr>");
+        histograms.forEach((endpoint, histogram) -> html.append(String.format(
+                "<tr><td>%s</td><td>%d</td><td>%.1f</td><td>%.1f</td><td>%.1f</td><td>%.1f</td><td>%.1f</td></tr>",
+                endpoint.replace("<", "&lt;"), histogram.getCount(),
+                histogram.percentileMicros(50) / 1000, histogram.percentileMicros(90) / 1000,
+                histogram.percentileMicros(99) / 1000, histogram.percentileMicros(99.9) / 1000,
+                histogram.getMaxMicros() / 1000.0)));
+        return html.append("</table><p>Blocking and async calls are measured until the response body is read, "
+                + "streamed GETs until the response headers arrive.</p>").toString();
+    }
+
+    /**
+     * The suite has no running test to attach to, so the report gets its own Allure result
+     */
+    private static void attachToAllure(String suiteName, String json, String table, String cacheStats) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        TestResult result = new TestResult()
+                .setUuid(uuid)
+                .setHistoryId("api-latency-" + suiteName)
+                .setName("API latency histograms (" + suiteName + ")")
+                .setFullName("api.latency." + suiteName)
+                .setStatus(Status.PASSED)
+                .setStage(Stage.FINISHED)
+                .setLabels(Arrays.asList(new Label().setName("suite").setValue("Performance"),
+                        new Label().setName("feature").setValue("API latency")));
+        lifecycle.scheduleTestCase(result);
+        lifecycle.startTestCase(uuid);
+        lifecycle.addAttachment("Latency percentiles", "text/html", ".html", table.getBytes(StandardCharsets.UTF_8));
+        lifecycle.addAttachment("Latency histograms", "application/json", ".json", json.getBytes(StandardCharsets.UTF_8));
+        if (cacheStats != null) {
+            lifecycle.addAttachment("HTTP cache", "text/plain", ".txt", cacheStats.getBytes(StandardCharsets.UTF_8));
+        }
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+    }
+}
@@ -0,0 +1,113 @@
+package com.peliQAn.framework.perf;
+
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator.
+ * Requests are started on an arrival schedule regardless of how long earlier ones take;
+ * when all workers are busy, arrivals wait in a queue and that wait counts towards their latency.
+ */
+@Slf4j
+public class LoadEngine {
+
+    private final int maxConcurrency;
+    private final Duration drainTimeout;
+
+    /**
+     * @param maxConcurrency number of worker threads, i.e. requests in flight at most
+     * @param drainTimeout   how long to wait for outstanding requests after the last arrival
+     */
+    public LoadEngine(int maxConcurrency, Duration drainTimeout) {
+        this.maxConcurrency = maxConcurrency;
+        this.drainTimeout = drainTimeout;
+    }
+
+    /**
+     * Run the scenario on the arrival schedule and collect throughput, errors and latency
+     */
+    @Step("Run load: {rate}")
+    public LoadResult run(Scenario scenario, ArrivalRate rate) {
+        LatencyRecorder latency = new LatencyRecorder();
+        LatencyRecorder serviceTime = new LatencyRecorder();
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        Map<String, LongAdder> completedByOperation = new ConcurrentHashMap<>();
+
+        ExecutorService workers = newWorkerPool();
+        long total = rate.getTotalArrivals();
+        log.info("Starting load run: {} ({} requests, {} workers)", rate, total, maxConcurrency);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + rate.intendedStartNanos(i);
+            long delay;
+            while ((delay = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            Scenario.Operation operation = scenario.pick();
+            workers.execute(() -> {
+                long actualStart = System.nanoTime();
+                boolean failed;
+                try {
+                    Response response = operation.getCall().get();
+                    failed = response == null || response.getStatusCode() >= 400;
+                } catch (RuntimeException e) {
+                    log.debug("Load request {} failed: {}", operation.getName(), e.getMessage());
+                    failed = true;
+                }
+                long end = System.nanoTime();
+                latency.record(end - intendedStart);
+                serviceTime.record(end - actualStart);
+                completed.increment();
+                if (failed) {
+                    errors.increment();
+                }
+                completedByOperation.computeIfAbsent(operation.getName(), name -> new LongAdder()).increment();
+            });
+        }
+
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Requests still outstanding {} after the last arrival, abandoning them", drainTimeout);
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, Long> byOperation = new TreeMap<>();
+        completedByOperation.forEach((name, count) -> byOperation.put(name, count.sum()));
+        LoadResult result = new LoadResult(rate.toString(), total, completed.sum(), errors.sum(), elapsed,
+                LoadResult.Percentiles.of(latency.sorted()), LoadResult.Percentiles.of(serviceTime.sorted()),
+                byOperation);
+        log.info("Load run finished: {}", result);
+        return result;
+    }
+
+    private ExecutorService newWorkerPool() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "load-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
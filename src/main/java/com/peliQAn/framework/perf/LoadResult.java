@@ -0,0 +1,70 @@
+package com.peliQAn.framework.perf;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of a load run.
+ * Latency is measured from each request's intended start, so time spent queued behind slow
+ * requests counts (coordinated omission corrected); service time is measured from the actual start.
+ */
+@Value
+public class LoadResult {
+    String profile;
+    long scheduled;
+    long completed;
+    long errors;
+    Duration elapsed;
+    Percentiles latency;
+    Percentiles serviceTime;
+    Map<String, Long> completedByOperation;
+
+    /**
+     * Latency percentiles in milliseconds
+     */
+    @Value
+    public static class Percentiles {
+        double p50;
+        double p90;
+        double p99;
+        double p999;
+        double max;
+
+        static Percentiles of(long[] sorted) {
+            return new Percentiles(
+                    LatencyRecorder.percentileMillis(sorted, 50),
+                    LatencyRecorder.percentileMillis(sorted, 90),
+                    LatencyRecorder.percentileMillis(sorted, 99),
+                    LatencyRecorder.percentileMillis(sorted, 99.9),
+                    LatencyRecorder.percentileMillis(sorted, 100));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("p50=%.1fms p90=%.1fms p99=%.1fms p99.9=%.1fms max=%.1fms", p50, p90, p99, p999, max);
+        }
+    }
+
+    /**
+     * Completed requests per second over the run
+     */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds <= 0 ? 0 : completed / seconds;
+    }
+
+    /**
+     * Share of completed requests that failed (status 400 and above or an exception)
+     */
+    public double getErrorRate() {
+        return completed == 0 ? 0 : (double) errors / completed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d/%d completed, %.1f req/s, %.2f%% errors, latency %s, service time %s",
+                profile, completed, scheduled, getThroughput(), getErrorRate() * 100, latency, serviceTime);
+    }
+}
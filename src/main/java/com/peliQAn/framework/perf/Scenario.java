@@ -0,0 +1,66 @@
+package com.peliQAn.framework.perf;
+
+import io.restassured.response.Response;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Weighted mix of API operations; each arrival runs one operation picked by weight
+ */
+public final class Scenario {
+
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+
+    /**
+     * One operation of the mix, usually a call on an API client
+     */
+    @Value
+    public static class Operation {
+        String name;
+        int weight;
+        Supplier<Response> call;
+    }
+
+    private Scenario() {
+    }
+
+    public static Scenario create() {
+        return new Scenario();
+    }
+
+    /**
+     * Add an operation; an operation with weight 3 runs three times as often as one with weight 1
+     */
+    public Scenario operation(String name, int weight, Supplier<Response> call) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Operation weight must be positive: " + name);
+        }
+        operations.add(new Operation(name, weight, call));
+        totalWeight += weight;
+        return this;
+    }
+
+    public List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    Operation pick() {
+        if (operations.isEmpty()) {
+            throw new IllegalStateException("Scenario has no operations");
+        }
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.getWeight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+}
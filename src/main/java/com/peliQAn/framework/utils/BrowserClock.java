@@ -0,0 +1,324 @@
+package com.peliQAn.framework.utils;
+
+import io.qameta.allure.Step;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v120.emulation.Emulation;
+import org.openqa.selenium.devtools.v120.emulation.model.VirtualTimePolicy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Controls the clock of the browser page.
+ * Chrome and Edge use CDP virtual time and timezone override, so advancing time fires
+ * setTimeout/setInterval callbacks as fast as the page can run them. Other browsers get an
+ * injected fake-timer clock with the same API. In both modes Date is wrapped in a Proxy,
+ * so dates created by the page are still real Date instances.
+ */
+@Slf4j
+public class BrowserClock {
+
+    private static final Duration ADVANCE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Map<WebDriver, BrowserClock> clocks =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Clock implementation in use
+     */
+    public enum Mode {
+        VIRTUAL_TIME,
+        FAKE_TIMERS
+    }
+
+    // Installs window.__browserClock once per document; prepended to every clock script
+    static final String INSTALL_SCRIPT =
+        "if (!window.__browserClock) {" +
+        "  const OriginalDate = Date;" +
+        "  const clock = {OriginalDate: OriginalDate, offset: 0, frozenAt: null, timezone: null," +
+        "    fake: false, timers: new Map(), nextId: 1000000000," +
+        "    originals: {setTimeout: window.setTimeout, setInterval: window.setInterval," +
+        "      clearTimeout: window.clearTimeout, clearInterval: window.clearInterval," +
+        "      getTimezoneOffset: OriginalDate.prototype.getTimezoneOffset}};" +
+        "  clock.now = () => clock.frozenAt !== null ? clock.frozenAt : OriginalDate.now() + clock.offset;" +
+        "  clock.date = new Proxy(OriginalDate, {" +
+        "    construct: (target, args, newTarget) => Reflect.construct(target, args.length ? args : [clock.now()], newTarget)," +
+        "    apply: () => new OriginalDate(clock.now()).toString()," +
+        "    get: (target, prop, receiver) => prop === 'now' ? clock.now : Reflect.get(target, prop, receiver)" +
+        "  });" +
+        "  window.Date = clock.date;" +
+        "  clock.setTime = ms => {" +
+        "    if (clock.frozenAt !== null) { clock.frozenAt = ms; } else { clock.offset = ms - OriginalDate.now(); }" +
+        "  };" +
+        "  clock.run = fn => { try { typeof fn.fn === 'function' ? fn.fn.apply(window, fn.args) : (0, eval)(fn.fn); }" +
+        "    catch (e) { console.error(e); } };" +
+        "  clock.schedule = (fn, delay, args, repeat) => {" +
+        "    const id = clock.nextId++;" +
+        "    const wait = Math.max(0, Number(delay) || 0);" +
+        "    clock.timers.set(id, {at: clock.frozenAt + wait, fn: fn, args: args, interval: repeat ? Math.max(1, wait) : null});" +
+        "    return id;" +
+        "  };" +
+        "  clock.clear = id => { clock.timers.delete(id); clock.originals.clearTimeout.call(window, id); };" +
+        "  clock.freeze = () => {" +
+        "    if (clock.fake) { return; }" +
+        "    clock.frozenAt = clock.now();" +
+        "    clock.fake = true;" +
+        "    window.setTimeout = (fn, delay, ...args) => clock.schedule(fn, delay, args, false);" +
+        "    window.setInterval = (fn, delay, ...args) => clock.schedule(fn, delay, args, true);" +
+        "    window.clearTimeout = clock.clear;" +
+        "    window.clearInterval = clock.clear;" +
+        "  };" +
+        "  clock.tick = ms => {" +
+        "    const target = clock.frozenAt + ms;" +
+        "    let fired = 0;" +
+        "    for (;;) {" +
+        "      let nextId = null; let next = null;" +
+        "      clock.timers.forEach((timer, id) => {" +
+        "        if (timer.at <= target && (next === null || timer.at < next.at)) { next = timer; nextId = id; }" +
+        "      });" +
+        "      if (next === null || fired >= 100000) { break; }" +
+        "      clock.frozenAt = next.at;" +
+        "      if (next.interval !== null) { next.at += next.interval; } else { clock.timers.delete(nextId); }" +
+        "      clock.run(next);" +
+        "      fired++;" +
+        "    }" +
+        "    clock.frozenAt = target;" +
+        "    return fired;" +
+        "  };" +
+        "  clock.setTimezone = zone => {" +
+        "    clock.timezone = zone;" +
+        "    if (!zone) { OriginalDate.prototype.getTimezoneOffset = clock.originals.getTimezoneOffset; return; }" +
+        "    const format = new Intl.DateTimeFormat('en-US', {timeZone: zone, hourCycle: 'h23', year: 'numeric'," +
+        "      month: 'numeric', day: 'numeric', hour: 'numeric', minute: 'numeric', second: 'numeric'});" +
+        "    OriginalDate.prototype.getTimezoneOffset = function() {" +
+        "      const parts = {};" +
+        "      format.formatToParts(this).forEach(part => { parts[part.type] = Number(part.value); });" +
+        "      const wallTime = OriginalDate.UTC(parts.year, parts.month - 1, parts.day, parts.hour, parts.minute, parts.second);" +
+        "      return Math.round((Math.floor(this.getTime() / 1000) * 1000 - wallTime) / 60000);" +
+        "    };" +
+        "  };" +
+        "  clock.uninstall = () => {" +
+        "    window.Date = OriginalDate;" +
+        "    OriginalDate.prototype.getTimezoneOffset = clock.originals.getTimezoneOffset;" +
+        "    window.setTimeout = clock.originals.setTimeout;" +
+        "    window.setInterval = clock.originals.setInterval;" +
+        "    window.clearTimeout = clock.originals.clearTimeout;" +
+        "    window.clearInterval = clock.originals.clearInterval;" +
+        "    delete window.__browserClock;" +
+        "  };" +
+        "  window.__browserClock = clock;" +
+        "}" +
+        "const clock = window.__browserClock;";
+
+    private final JavascriptExecutor js;
+    private final DevTools devTools;
+    private final AtomicReference<CompletableFuture<Void>> pendingBudget = new AtomicReference<>();
+    private boolean timezoneOverridden;
+
+    private BrowserClock(WebDriver driver, DevTools devTools) {
+        this.js = (JavascriptExecutor) driver;
+        this.devTools = devTools;
+    }
+
+    /**
+     * Get the clock for a driver, using CDP virtual time when the browser supports it
+     */
+    public static BrowserClock forDriver(WebDriver driver) {
+        synchronized (clocks) {
+            return clocks.computeIfAbsent(driver, BrowserClock::create);
+        }
+    }
+
+    /**
+     * Forget the clock for a driver (called when the driver quits)
+     */
+    public static void release(WebDriver driver) {
+        clocks.remove(driver);
+    }
+
+    private static BrowserClock create(WebDriver driver) {
+        // Firefox implements HasDevTools without a CDP endpoint and gets fake timers
+        Optional<DevTools> cdp = driver instanceof HasDevTools
+                ? ((HasDevTools) driver).maybeGetDevTools()
+                : Optional.empty();
+        if (cdp.isPresent()) {
+            try {
+                DevTools devTools = cdp.get();
+                devTools.createSessionIfThereIsNotOne();
+                BrowserClock clock = new BrowserClock(driver, devTools);
+                devTools.addListener(Emulation.virtualTimeBudgetExpired(), expired -> {
+                    CompletableFuture<Void> budget = clock.pendingBudget.getAndSet(null);
+                    if (budget != null) {
+                        budget.complete(null);
+                    }
+                });
+                log.info("Browser clock uses CDP virtual time");
+                return clock;
+            } catch (Exception e) {
+                log.warn("CDP virtual time not available, using fake timers: {}", e.getMessage());
+            }
+        }
+        log.info("Browser clock uses injected fake timers");
+        return new BrowserClock(driver, null);
+    }
+
+    public Mode getMode() {
+        return devTools != null ? Mode.VIRTUAL_TIME : Mode.FAKE_TIMERS;
+    }
+
+    private Object runClockScript(String script, Object... args) {
+        return js.executeScript(INSTALL_SCRIPT + script, args);
+    }
+
+    /**
+     * Current time as seen by the page
+     */
+    public Instant now() {
+        return Instant.ofEpochMilli(((Number) runClockScript("return clock.now();")).longValue());
+    }
+
+    /**
+     * Jump the page clock to the given time without firing timers
+     */
+    @Step("Set browser clock to {time}")
+    public BrowserClock setTime(Instant time) {
+        runClockScript("clock.setTime(arguments[0]);", time.toEpochMilli());
+        log.info("Set browser clock to {}", time);
+        return this;
+    }
+
+    /**
+     * Stop the page clock; timers then only run when time is advanced
+     */
+    @Step("Pause browser clock")
+    public BrowserClock pause() {
+        if (getMode() == Mode.VIRTUAL_TIME) {
+            devTools.send(Emulation.setVirtualTimePolicy(VirtualTimePolicy.PAUSE,
+                    Optional.empty(), Optional.empty(), Optional.empty()));
+        } else {
+            runClockScript("clock.freeze();");
+        }
+        log.info("Paused browser clock");
+        return this;
+    }
+
+    /**
+     * Move page time forward, running every timer that falls due on the way.
+     * Takes as long as the page needs to run the timers, not the advanced duration.
+     * The clock stays paused afterwards.
+     */
+    @Step("Advance browser clock by {duration}")
+    public BrowserClock advance(Duration duration) {
+        long millis = duration.toMillis();
+        if (getMode() == Mode.VIRTUAL_TIME) {
+            CompletableFuture<Void> budget = new CompletableFuture<>();
+            pendingBudget.set(budget);
+            devTools.send(Emulation.setVirtualTimePolicy(VirtualTimePolicy.ADVANCE,
+                    Optional.<Number>of(millis), Optional.empty(), Optional.empty()));
+            awaitBudget(budget, duration);
+            log.info("Advanced browser virtual time by {} ms", millis);
+        } else {
+            Object fired = runClockScript("clock.freeze(); return clock.tick(arguments[0]);", millis);
+            log.info("Advanced browser fake clock by {} ms, fired {} timers", millis, fired);
+        }
+        return this;
+    }
+
+    private void awaitBudget(CompletableFuture<Void> budget, Duration duration) {
+        try {
+            budget.get(ADVANCE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while advancing browser clock", e);
+        } catch (ExecutionException | TimeoutException e) {
+            pendingBudget.compareAndSet(budget, null);
+            throw new org.openqa.selenium.TimeoutException("Browser did not finish advancing " + duration
+                    + " of virtual time within " + ADVANCE_TIMEOUT, e);
+        }
+    }
+
+    /**
+     * Emulate a timezone for the page
+     */
+    @Step("Set browser timezone to {zone}")
+    public BrowserClock setTimezone(ZoneId zone) {
+        String timezoneId = toTimezoneId(zone);
+        if (getMode() == Mode.VIRTUAL_TIME) {
+            if (timezoneOverridden) {
+                devTools.send(Emulation.setTimezoneOverride(""));
+            }
+            devTools.send(Emulation.setTimezoneOverride(timezoneId));
+        } else {
+            runClockScript("clock.setTimezone(arguments[0]);", timezoneId);
+        }
+        timezoneOverridden = true;
+        log.info("Set browser timezone to {}", timezoneId);
+        return this;
+    }
+
+    /**
+     * Go back to the browser's own timezone
+     */
+    @Step("Clear browser timezone override")
+    public BrowserClock clearTimezone() {
+        if (getMode() == Mode.VIRTUAL_TIME) {
+            if (timezoneOverridden) {
+                devTools.send(Emulation.setTimezoneOverride(""));
+            }
+        } else {
+            runClockScript("clock.setTimezone(null);");
+        }
+        timezoneOverridden = false;
+        log.info("Cleared browser timezone override");
+        return this;
+    }
+
+    /**
+     * Remove the Date wrapper and fake timers from the page and clear the timezone override.
+     * CDP virtual time, once started, keeps running on its own policy until the page is reloaded.
+     */
+    @Step("Reset browser clock")
+    public BrowserClock reset() {
+        clearTimezone();
+        js.executeScript("if (window.__browserClock) { window.__browserClock.uninstall(); }");
+        log.info("Reset browser clock");
+        return this;
+    }
+
+    /**
+     * IANA timezone id understood by the browser; whole-hour offsets map to Etc/GMT zones.
+     * IANA has no zone for other fixed offsets, so e.g. +05:30 must be given as a region like Asia/Kolkata.
+     */
+    static String toTimezoneId(ZoneId zone) {
+        // Prefixed offsets such as UTC+02:00 are fixed offsets too
+        ZoneId normalized = zone.normalized();
+        if (!(normalized instanceof ZoneOffset)) {
+            return zone.getId();
+        }
+        int totalSeconds = ((ZoneOffset) normalized).getTotalSeconds();
+        if (totalSeconds == 0) {
+            return "UTC";
+        }
+        if (totalSeconds % 3600 != 0) {
+            throw new IllegalArgumentException("No IANA timezone for offset " + normalized.getId()
+                    + "; use a region id such as Asia/Kolkata for +05:30 or Asia/Kathmandu for +05:45");
+        }
+        // Etc/GMT zones use the POSIX sign convention: UTC+2 is Etc/GMT-2
+        int hours = totalSeconds / 3600;
+        return "Etc/GMT" + (hours > 0 ? "-" : "+") + Math.abs(hours);
+    }
+}
@@ -0,0 +1,340 @@
+package com.peliQAn.framework.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.Step;
+import io.qameta.allure.model.Status;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Soft assertions on page state, evaluated together in the browser.
+ * Expectations are collected first, then checked by one script; each one is reported
+ * as its own Allure step and assertAll fails with every failed expectation at once.
+ * Targets are CSS selectors (first match), locators or named elements. Locators and elements are
+ * resolved one by one before the script runs, so a missing element fails only its own expectation.
+ */
+@Slf4j
+public class BrowserSoftAssertions {
+
+    private static final String ELEMENT_NOT_FOUND = "element not found";
+
+    private static final String EVALUATE_SCRIPT =
+        "const isVisible = el => {" +
+        "  if (!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)) { return false; }" +
+        "  const style = getComputedStyle(el);" +
+        "  return style.visibility !== 'hidden' && style.opacity !== '0';" +
+        "};" +
+        "const text = el => (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim();" +
+        "return arguments[0].map(exp => {" +
+        "  try {" +
+        "    if (exp.check === 'COUNT') {" +
+        "      const count = document.querySelectorAll(exp.selector).length;" +
+        "      return {passed: count === Number(exp.expected), actual: String(count)};" +
+        "    }" +
+        "    const el = exp.element || document.querySelector(exp.selector);" +
+        "    if (exp.check === 'PRESENT') { return {passed: !!el, actual: el ? 'present' : 'absent'}; }" +
+        "    if (exp.check === 'ABSENT') { return {passed: !el, actual: el ? 'present' : 'absent'}; }" +
+        "    if (!el) { return {passed: false, actual: 'no such element'}; }" +
+        "    switch (exp.check) {" +
+        "      case 'VISIBLE': { const v = isVisible(el); return {passed: v, actual: v ? 'visible' : 'hidden'}; }" +
+        "      case 'HIDDEN': { const v = isVisible(el); return {passed: !v, actual: v ? 'visible' : 'hidden'}; }" +
+        "      case 'TEXT': { const t = text(el); return {passed: t === exp.expected, actual: t}; }" +
+        "      case 'TEXT_CONTAINS': { const t = text(el); return {passed: t.includes(exp.expected), actual: t}; }" +
+        "      case 'VALUE': return {passed: el.value === exp.expected, actual: String(el.value)};" +
+        "      case 'CHECKED': return {passed: el.checked === true, actual: String(!!el.checked)};" +
+        "      case 'UNCHECKED': return {passed: !el.checked, actual: String(!!el.checked)};" +
+        "      case 'ENABLED': return {passed: !el.disabled, actual: el.disabled ? 'disabled' : 'enabled'};" +
+        "      case 'ATTRIBUTE': {" +
+        "        const a = el.getAttribute(exp.name);" +
+        "        return {passed: a === exp.expected, actual: String(a)};" +
+        "      }" +
+        "      case 'CLASS': return {passed: el.classList.contains(exp.expected), actual: el.className};" +
+        "      default: return {passed: false, actual: 'unknown check ' + exp.check};" +
+        "    }" +
+        "  } catch (e) {" +
+        "    return {passed: false, actual: 'error: ' + e.message};" +
+        "  }" +
+        "});";
+
+    private final WebDriver driver;
+    private final List<Expectation> expectations = new ArrayList<>();
+    private List<ExpectationResult> results;
+
+    /**
+     * Collected expectation, described for the report
+     */
+    @Value
+    private static class Expectation {
+        String description;
+        String check;
+        String selector;
+        By locator;
+        WebElement element;
+        String name;
+        String expected;
+    }
+
+    /**
+     * Outcome of one expectation
+     */
+    @Value
+    public static class ExpectationResult {
+        String description;
+        boolean passed;
+        String actual;
+    }
+
+    public BrowserSoftAssertions(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public BrowserSoftAssertions isVisible(String selector) {
+        return add("VISIBLE", selector, null, null, null, null, selector + " is visible");
+    }
+
+    public BrowserSoftAssertions isVisible(By locator) {
+        return add("VISIBLE", null, locator, null, null, null, locator + " is visible");
+    }
+
+    /**
+     * @param element element or page factory proxy
+     * @param elementName how the element is named in the report
+     */
+    public BrowserSoftAssertions isVisible(WebElement element, String elementName) {
+        return add("VISIBLE", null, null, element, null, null, elementName + " is visible");
+    }
+
+    public BrowserSoftAssertions isHidden(String selector) {
+        return add("HIDDEN", selector, null, null, null, null, selector + " is hidden");
+    }
+
+    public BrowserSoftAssertions isHidden(By locator) {
+        return add("HIDDEN", null, locator, null, null, null, locator + " is hidden");
+    }
+
+    public BrowserSoftAssertions isHidden(WebElement element, String elementName) {
+        return add("HIDDEN", null, null, element, null, null, elementName + " is hidden");
+    }
+
+    public BrowserSoftAssertions isPresent(String selector) {
+        return add("PRESENT", selector, null, null, null, null, selector + " is present");
+    }
+
+    public BrowserSoftAssertions isAbsent(String selector) {
+        return add("ABSENT", selector, null, null, null, null, selector + " is absent");
+    }
+
+    /**
+     * Visible text, whitespace collapsed, equals the expected text
+     */
+    public BrowserSoftAssertions hasText(String selector, String text) {
+        return add("TEXT", selector, null, null, null, text, selector + " has text '" + text + "'");
+    }
+
+    public BrowserSoftAssertions hasText(By locator, String text) {
+        return add("TEXT", null, locator, null, null, text, locator + " has text '" + text + "'");
+    }
+
+    public BrowserSoftAssertions hasText(WebElement element, String elementName, String text) {
+        return add("TEXT", null, null, element, null, text, elementName + " has text '" + text + "'");
+    }
+
+    public BrowserSoftAssertions containsText(String selector, String text) {
+        return add("TEXT_CONTAINS", selector, null, null, null, text, selector + " contains text '" + text + "'");
+    }
+
+    public BrowserSoftAssertions containsText(By locator, String text) {
+        return add("TEXT_CONTAINS", null, locator, null, null, text, locator + " contains text '" + text + "'");
+    }
+
+    public BrowserSoftAssertions containsText(WebElement element, String elementName, String text) {
+        return add("TEXT_CONTAINS", null, null, element, null, text,
+                elementName + " contains text '" + text + "'");
+    }
+
+    /**
+     * Visible with exactly the expected text, the most common UI check
+     */
+    public BrowserSoftAssertions isVisibleWithText(String selector, String text) {
+        return isVisible(selector).hasText(selector, text);
+    }
+
+    public BrowserSoftAssertions hasValue(String selector, String value) {
+        return add("VALUE", selector, null, null, null, value, selector + " has value '" + value + "'");
+    }
+
+    public BrowserSoftAssertions hasValue(By locator, String value) {
+        return add("VALUE", null, locator, null, null, value, locator + " has value '" + value + "'");
+    }
+
+    public BrowserSoftAssertions hasValue(WebElement element, String elementName, String value) {
+        return add("VALUE", null, null, element, null, value, elementName + " has value '" + value + "'");
+    }
+
+    public BrowserSoftAssertions isChecked(String selector, boolean checked) {
+        return add(checked ? "CHECKED" : "UNCHECKED", selector, null, null, null, null,
+                selector + (checked ? " is checked" : " is not checked"));
+    }
+
+    public BrowserSoftAssertions isChecked(By locator, boolean checked) {
+        return add(checked ? "CHECKED" : "UNCHECKED", null, locator, null, null, null,
+                locator + (checked ? " is checked" : " is not checked"));
+    }
+
+    public BrowserSoftAssertions isChecked(WebElement element, String elementName, boolean checked) {
+        return add(checked ? "CHECKED" : "UNCHECKED", null, null, element, null, null,
+                elementName + (checked ? " is checked" : " is not checked"));
+    }
+
+    public BrowserSoftAssertions isEnabled(String selector) {
+        return add("ENABLED", selector, null, null, null, null, selector + " is enabled");
+    }
+
+    public BrowserSoftAssertions hasAttribute(String selector, String name, String value) {
+        return add("ATTRIBUTE", selector, null, null, name, value, selector + " has " + name + "='" + value + "'");
+    }
+
+    public BrowserSoftAssertions hasClass(String selector, String className) {
+        return add("CLASS", selector, null, null, null, className, selector + " has class '" + className + "'");
+    }
+
+    /**
+     * Number of elements matching the selector
+     */
+    public BrowserSoftAssertions hasCount(String selector, int count) {
+        return add("COUNT", selector, null, null, null, String.valueOf(count),
+                selector + " matches " + count + " elements");
+    }
+
+    private BrowserSoftAssertions add(String check, String selector, By locator, WebElement element,
+                                      String name, String expected, String description) {
+        expectations.add(new Expectation(description, check, selector, locator, element, name, expected));
+        results = null;
+        return this;
+    }
+
+    /**
+     * Element an expectation targets, or null when the script looks it up by selector.
+     * Page factory proxies are unwrapped here, so a missing element surfaces as an exception for this
+     * expectation instead of aborting the whole script when the proxy is serialized as an argument.
+     */
+    private WebElement resolve(Expectation expectation) {
+        if (expectation.getLocator() != null) {
+            return driver.findElement(expectation.getLocator());
+        }
+        WebElement element = expectation.getElement();
+        if (element instanceof WrapsElement) {
+            return ((WrapsElement) element).getWrappedElement();
+        }
+        return element;
+    }
+
+    /**
+     * Evaluate all collected expectations in one script and report each as an Allure step
+     */
+    @Step("Verify browser expectations")
+    public List<ExpectationResult> verify() {
+        Map<Integer, Map<String, Object>> outcomes;
+        try {
+            outcomes = evaluate();
+        } catch (StaleElementReferenceException e) {
+            // An element was replaced between resolving and running the script, resolve once more
+            log.debug("Element went stale before evaluation, resolving again: {}", e.getMessage());
+            outcomes = evaluate();
+        }
+
+        results = new ArrayList<>(expectations.size());
+        for (int i = 0; i < expectations.size(); i++) {
+            Map<String, Object> outcome = outcomes.get(i);
+            ExpectationResult result = new ExpectationResult(expectations.get(i).getDescription(),
+                    Boolean.TRUE.equals(outcome.get("passed")), (String) outcome.get("actual"));
+            results.add(result);
+            Allure.step(result.isPassed() ? result.getDescription()
+                            : result.getDescription() + " (actual: '" + result.getActual() + "')",
+                    result.isPassed() ? Status.PASSED : Status.FAILED);
+        }
+        log.info("Verified {} browser expectations, {} failed", results.size(), getFailures().size());
+        return results;
+    }
+
+    /**
+     * Resolve element targets one by one, then check everything that resolved in one script.
+     * Outcomes are keyed by expectation index.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Integer, Map<String, Object>> evaluate() {
+        Map<Integer, Map<String, Object>> outcomes = new HashMap<>();
+        List<Integer> evaluated = new ArrayList<>(expectations.size());
+        List<Map<String, Object>> scriptExpectations = new ArrayList<>(expectations.size());
+        for (int i = 0; i < expectations.size(); i++) {
+            Expectation expectation = expectations.get(i);
+            WebElement element;
+            try {
+                element = resolve(expectation);
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                Map<String, Object> notFound = new HashMap<>();
+                notFound.put("passed", false);
+                notFound.put("actual", ELEMENT_NOT_FOUND);
+                outcomes.put(i, notFound);
+                continue;
+            }
+            Map<String, Object> item = new HashMap<>();
+            item.put("check", expectation.getCheck());
+            item.put("selector", expectation.getSelector());
+            item.put("element", element);
+            item.put("name", expectation.getName());
+            item.put("expected", expectation.getExpected());
+            scriptExpectations.add(item);
+            evaluated.add(i);
+        }
+
+        if (!scriptExpectations.isEmpty()) {
+            List<Map<String, Object>> scriptOutcomes = (List<Map<String, Object>>)
+                    ((JavascriptExecutor) driver).executeScript(EVALUATE_SCRIPT, scriptExpectations);
+            for (int i = 0; i < evaluated.size(); i++) {
+                outcomes.put(evaluated.get(i), scriptOutcomes.get(i));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Failed expectations of the last verification
+     */
+    public List<ExpectationResult> getFailures() {
+        if (results == null) {
+            return new ArrayList<>();
+        }
+        return results.stream().filter(result -> !result.isPassed()).collect(Collectors.toList());
+    }
+
+    /**
+     * Verify if not yet done and fail with all failed expectations
+     */
+    public void assertAll() {
+        if (results == null) {
+            verify();
+        }
+        List<ExpectationResult> failures = getFailures();
+        if (!failures.isEmpty()) {
+            String message = failures.stream()
+                    .map(failure -> failure.getDescription() + ", actual: '" + failure.getActual() + "'")
+                    .collect(Collectors.joining("\n  ", failures.size() + " of " + results.size()
+                            + " browser expectations failed:\n  ", ""));
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.peliQAn.framework.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.SeleniumCdpConnection;
+import org.openqa.selenium.devtools.idealized.target.model.SessionID;
+import org.openqa.selenium.devtools.v120.target.Target;
+import org.openqa.selenium.devtools.v120.target.model.TargetID;
+import org.openqa.selenium.json.Json;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs scripts in several windows at once over CDP, without switching WebDriver focus.
+ * Each window is a page target; the executor attaches a flat session to it and evaluates
+ * scripts there, so bulk operations fan out as CompletableFutures instead of serializing.
+ */
+@Slf4j
+public class CrossWindowExecutor {
+
+    private static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(30);
+    private static final Map<WebDriver, CrossWindowExecutor> executors =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Connection connection;
+    private final Json json = new Json();
+    private final Map<String, CompletableFuture<SessionID>> sessions = new ConcurrentHashMap<>();
+
+    private CrossWindowExecutor(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Get the executor for a driver, opening a dedicated CDP connection on first use.
+     * Returns empty for browsers without CDP.
+     */
+    public static Optional<CrossWindowExecutor> forDriver(WebDriver driver) {
+        synchronized (executors) {
+            if (executors.containsKey(driver)) {
+                return Optional.ofNullable(executors.get(driver));
+            }
+            CrossWindowExecutor executor = null;
+            if (driver instanceof HasDevTools) {
+                try {
+                    executor = SeleniumCdpConnection.create(driver)
+                            .map(CrossWindowExecutor::new)
+                            .orElse(null);
+                } catch (Exception e) {
+                    log.warn("Could not open CDP connection for cross-window execution: {}", e.getMessage());
+                }
+            }
+            executors.put(driver, executor);
+            return Optional.ofNullable(executor);
+        }
+    }
+
+    /**
+     * Close the executor's connection for a driver (called when the driver quits)
+     */
+    public static void release(WebDriver driver) {
+        CrossWindowExecutor executor = executors.remove(driver);
+        if (executor != null) {
+            executor.connection.close();
+        }
+    }
+
+    /**
+     * Get a flat session attached to the window's page target, attaching once per window
+     */
+    private CompletableFuture<SessionID> session(String windowHandle) {
+        return sessions.computeIfAbsent(windowHandle, handle ->
+                connection.send(null, Target.attachToTarget(new TargetID(handle), Optional.of(true)))
+                        .thenApply(sessionId -> new SessionID(sessionId.toString())));
+    }
+
+    /**
+     * Send a CDP command to the page target of a window
+     */
+    public <X> CompletableFuture<X> sendToWindow(String windowHandle, Command<X> command) {
+        return session(windowHandle).thenCompose(sessionId -> connection.send(sessionId, command));
+    }
+
+    /**
+     * Execute script in a window without switching to it.
+     * The script is a function body like for executeScript; arguments must be JSON-serializable
+     * and returned promises are awaited.
+     */
+    public CompletableFuture<Object> executeAsync(String windowHandle, String script, Object... args) {
+        String expression = "(function(){" + script + "}).apply(null, " + json.toJson(Arrays.asList(args)) + ")";
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("expression", expression);
+        params.put("returnByValue", true);
+        params.put("awaitPromise", true);
+        // Scripts may click buttons that open windows, which needs a user gesture
+        params.put("userGesture", true);
+
+        // Raw command keeps us independent of the long, version-specific Runtime.evaluate signature
+        Command<Map<String, Object>> evaluate = new Command<>("Runtime.evaluate", params,
+                input -> input.read(Json.MAP_TYPE));
+
+        return sendToWindow(windowHandle, evaluate).thenApply(response -> unwrapResult(windowHandle, response));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object unwrapResult(String windowHandle, Map<String, Object> response) {
+        Object exceptionDetails = response.get("exceptionDetails");
+        if (exceptionDetails != null) {
+            throw new JavascriptException("Script failed in window " + windowHandle + ": " + exceptionDetails);
+        }
+        Map<String, Object> result = (Map<String, Object>) response.get("result");
+        return result == null ? null : result.get("value");
+    }
+
+    /**
+     * Execute the same script in several windows concurrently and wait for all results
+     */
+    public Map<String, Object> executeInWindows(Collection<String> windowHandles, String script, Object... args) {
+        Map<String, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+        for (String handle : windowHandles) {
+            futures.put(handle, executeAsync(handle, script, args));
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        futures.forEach((handle, future) -> results.put(handle, join(future)));
+        log.info("Executed script in {} windows concurrently", results.size());
+        return results;
+    }
+
+    /**
+     * Close several windows in one batch through Target.closeTarget
+     */
+    public void closeWindows(Collection<String> windowHandles) {
+        List<CompletableFuture<Boolean>> closing = new ArrayList<>();
+        for (String handle : windowHandles) {
+            sessions.remove(handle);
+            closing.add(connection.send(null, Target.closeTarget(new TargetID(handle))));
+        }
+        closing.forEach(CrossWindowExecutor::join);
+        log.info("Closed {} windows in one batch", closing.size());
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get(COMMAND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for CDP command", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("CDP command failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new org.openqa.selenium.TimeoutException("CDP command did not complete within " + COMMAND_TIMEOUT, e);
+        }
+    }
+}
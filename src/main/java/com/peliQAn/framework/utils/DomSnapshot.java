@@ -0,0 +1,245 @@
+package com.peliQAn.framework.utils;
+
+import io.qameta.allure.Step;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of a DOM subtree captured in one script and queried locally with CSS selectors.
+ * Live state that is not in the markup (computed visibility, input values, checked and selected state)
+ * is written into the copy as attributes before it is serialized, so any number of checks
+ * can run without further browser round trips.
+ */
+@Slf4j
+public class DomSnapshot {
+
+    /**
+     * Attribute holding computed visibility of each captured element
+     */
+    public static final String VISIBLE_ATTRIBUTE = "data-snapshot-visible";
+
+    private static final String CAPTURE_SCRIPT =
+        "const root = arguments[0] || document.documentElement;" +
+        "const live = [root, ...root.querySelectorAll('*')];" +
+        "const copy = root.cloneNode(true);" +
+        // Both lists are in document order, so elements pair up by index
+        "const copies = [copy, ...copy.querySelectorAll('*')];" +
+        "const isVisible = el => {" +
+        "  if (!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)) { return false; }" +
+        "  const style = getComputedStyle(el);" +
+        "  return style.visibility !== 'hidden' && style.display !== 'none' && style.opacity !== '0';" +
+        "};" +
+        "live.forEach((el, i) => {" +
+        "  const target = copies[i];" +
+        "  target.setAttribute('" + VISIBLE_ATTRIBUTE + "', String(isVisible(el)));" +
+        "  if (el instanceof HTMLInputElement) {" +
+        "    target.setAttribute('value', el.value);" +
+        "    if (el.checked) { target.setAttribute('checked', ''); } else { target.removeAttribute('checked'); }" +
+        "  } else if (el instanceof HTMLTextAreaElement) {" +
+        "    target.textContent = el.value;" +
+        "  } else if (el instanceof HTMLSelectElement) {" +
+        "    target.setAttribute('value', el.value);" +
+        "  } else if (el instanceof HTMLOptionElement) {" +
+        "    if (el.selected) { target.setAttribute('selected', ''); } else { target.removeAttribute('selected'); }" +
+        "  }" +
+        "});" +
+        "copy.querySelectorAll('script, style, noscript').forEach(el => el.remove());" +
+        "return copy.outerHTML;";
+
+    private final Element root;
+
+    private DomSnapshot(Element root) {
+        this.root = root;
+    }
+
+    /**
+     * Capture the whole document
+     */
+    @Step("Capture DOM snapshot of the page")
+    public static DomSnapshot capture(WebDriver driver) {
+        return capture(driver, null);
+    }
+
+    /**
+     * Capture the subtree under root (the whole document if root is null)
+     */
+    @Step("Capture DOM snapshot")
+    public static DomSnapshot capture(WebDriver driver, WebElement root) {
+        String html = (String) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT, root);
+        DomSnapshot snapshot = parse(html);
+        log.debug("Captured DOM snapshot with {} elements", snapshot.root.getAllElements().size());
+        return snapshot;
+    }
+
+    /**
+     * Build a snapshot from serialized markup, e.g. one saved from an earlier capture
+     */
+    public static DomSnapshot parse(String html) {
+        if (html.regionMatches(true, 0, "<html", 0, 5)) {
+            Document document = Jsoup.parse(html);
+            return new DomSnapshot(document.child(0));
+        }
+        // A fragment is parsed into the body of a shell document
+        Element body = Jsoup.parseBodyFragment(html).body();
+        return new DomSnapshot(body.childrenSize() == 1 ? body.child(0) : body);
+    }
+
+    /**
+     * Root element of the captured subtree
+     */
+    public Element getRoot() {
+        return root;
+    }
+
+    /**
+     * All elements matching the selector, root included
+     */
+    public Elements select(String cssSelector) {
+        return root.select(cssSelector);
+    }
+
+    /**
+     * First element matching the selector
+     *
+     * @throws NoSuchElementException if nothing matches
+     */
+    public Element find(String cssSelector) {
+        Element element = root.selectFirst(cssSelector);
+        if (element == null) {
+            throw new NoSuchElementException("No element in snapshot matches: " + cssSelector);
+        }
+        return element;
+    }
+
+    public boolean exists(String cssSelector) {
+        return root.selectFirst(cssSelector) != null;
+    }
+
+    public int count(String cssSelector) {
+        return select(cssSelector).size();
+    }
+
+    /**
+     * Number of matching elements that were visible at capture time
+     */
+    public int countVisible(String cssSelector) {
+        int count = 0;
+        for (Element element : select(cssSelector)) {
+            if (isVisible(element)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Whether the first matching element was visible; false if nothing matches
+     */
+    public boolean isVisible(String cssSelector) {
+        Element element = root.selectFirst(cssSelector);
+        return element != null && isVisible(element);
+    }
+
+    public static boolean isVisible(Element element) {
+        return "true".equals(element.attr(VISIBLE_ATTRIBUTE));
+    }
+
+    /**
+     * Text of the first matching element as a user saw it: empty if hidden,
+     * hidden descendants left out (like WebElement.getText)
+     */
+    public String text(String cssSelector) {
+        return visibleText(find(cssSelector));
+    }
+
+    /**
+     * Visible texts of all matching elements
+     */
+    public List<String> texts(String cssSelector) {
+        List<String> texts = new ArrayList<>();
+        for (Element element : select(cssSelector)) {
+            texts.add(visibleText(element));
+        }
+        return texts;
+    }
+
+    /**
+     * Full text content of the first matching element, hidden parts included
+     */
+    public String textContent(String cssSelector) {
+        return find(cssSelector).text();
+    }
+
+    public static String visibleText(Element element) {
+        if (!isVisible(element)) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        appendVisibleText(element, text);
+        return text.toString().replaceAll("\\s+", " ").trim();
+    }
+
+    private static void appendVisibleText(Element element, StringBuilder text) {
+        for (Node child : element.childNodes()) {
+            if (child instanceof TextNode) {
+                text.append(((TextNode) child).getWholeText());
+            } else if (child instanceof Element && isVisible((Element) child)) {
+                Element childElement = (Element) child;
+                if (childElement.isBlock() || "br".equals(childElement.normalName())) {
+                    text.append(' ');
+                }
+                appendVisibleText(childElement, text);
+            }
+        }
+    }
+
+    /**
+     * Value of the first matching input, textarea or select at capture time
+     */
+    public String value(String cssSelector) {
+        Element element = find(cssSelector);
+        return "textarea".equals(element.normalName()) ? element.wholeText() : element.attr("value");
+    }
+
+    /**
+     * Checked state of the first matching checkbox or radio at capture time
+     */
+    public boolean isChecked(String cssSelector) {
+        return find(cssSelector).hasAttr("checked");
+    }
+
+    /**
+     * Text of the selected option of the first matching select
+     */
+    public String selectedOptionText(String cssSelector) {
+        Element option = find(cssSelector).selectFirst("option[selected]");
+        return option == null ? null : option.text();
+    }
+
+    public String attribute(String cssSelector, String name) {
+        return find(cssSelector).attr(name);
+    }
+
+    public boolean hasClass(String cssSelector, String className) {
+        return find(cssSelector).hasClass(className);
+    }
+
+    /**
+     * Captured markup, with the snapshot attributes
+     */
+    public String html() {
+        return root.outerHtml();
+    }
+}
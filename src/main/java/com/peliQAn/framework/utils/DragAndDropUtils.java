@@ -0,0 +1,201 @@
+package com.peliQAn.framework.utils;
+
+import io.qameta.allure.Step;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for drag and drop without WebDriver actions.
+ * A whole drag (or a batch of drags) is dispatched by one script: HTML5 drag events sharing a
+ * DataTransfer for draggable sources, pointer and mouse events for libraries that track the pointer.
+ */
+@Slf4j
+public class DragAndDropUtils {
+
+    /**
+     * Event model used for a drag
+     */
+    public enum Mode {
+        /** HTML5 drag events when the source is draggable, pointer events otherwise or if the drop is ignored */
+        AUTO,
+        HTML5,
+        POINTER
+    }
+
+    private static final String DRAG_SCRIPT =
+        "const moves = arguments[0];" +
+        "const mode = arguments[1];" +
+        "const done = arguments[arguments.length - 1];" +
+        // Handlers often update state between events, give them a task to do so
+        "const yieldTask = () => new Promise(resolve => setTimeout(resolve, 0));" +
+        "const center = el => {" +
+        "  const rect = el.getBoundingClientRect();" +
+        "  return {x: rect.left + rect.width / 2, y: rect.top + rect.height / 2};" +
+        "};" +
+        "const isDraggable = el => !!(el.closest && el.closest('[draggable=\"true\"]')) || el.draggable === true;" +
+        "const newDataTransfer = () => {" +
+        "  try { return new DataTransfer(); } catch (e) {" +
+        "    const data = {};" +
+        "    return {data, dropEffect: 'move', effectAllowed: 'all', files: [], items: [], types: []," +
+        "      setData(type, value) { data[type] = String(value); if (!this.types.includes(type)) { this.types.push(type); } }," +
+        "      getData(type) { return data[type] || ''; }," +
+        "      clearData(type) { if (type) { delete data[type]; } else { Object.keys(data).forEach(k => delete data[k]); } }," +
+        "      setDragImage() {}};" +
+        "  }" +
+        "};" +
+        "const dragEvent = (el, type, point, dataTransfer) => {" +
+        "  const init = {bubbles: true, cancelable: true, composed: true, clientX: point.x, clientY: point.y};" +
+        "  let event;" +
+        "  try { event = new DragEvent(type, Object.assign({dataTransfer}, init)); } catch (e) { event = null; }" +
+        // Browsers that ignore the dataTransfer init get it defined on the event instead
+        "  if (!event || event.dataTransfer !== dataTransfer) {" +
+        "    event = new MouseEvent(type, init);" +
+        "    Object.defineProperty(event, 'dataTransfer', {value: dataTransfer});" +
+        "  }" +
+        "  el.dispatchEvent(event);" +
+        "  return event.defaultPrevented;" +
+        "};" +
+        "const html5Drag = async (source, target) => {" +
+        "  const dataTransfer = newDataTransfer();" +
+        "  const from = center(source);" +
+        "  const to = center(target);" +
+        "  if (dragEvent(source, 'dragstart', from, dataTransfer)) { return false; }" +
+        "  await yieldTask();" +
+        "  dragEvent(source, 'drag', from, dataTransfer);" +
+        "  dragEvent(target, 'dragenter', to, dataTransfer);" +
+        // A drop target accepts by cancelling dragover
+        "  const accepted = dragEvent(target, 'dragover', to, dataTransfer);" +
+        "  await yieldTask();" +
+        "  const dropped = accepted ? dragEvent(target, 'drop', to, dataTransfer) : false;" +
+        "  if (!accepted) { dragEvent(target, 'dragleave', to, dataTransfer); }" +
+        "  dataTransfer.dropEffect = accepted ? 'move' : 'none';" +
+        "  dragEvent(source, 'dragend', to, dataTransfer);" +
+        "  return accepted || dropped;" +
+        "};" +
+        "const pointerEvent = (el, type, point, buttons) => {" +
+        "  const init = {bubbles: true, cancelable: true, composed: true, clientX: point.x, clientY: point.y," +
+        "    button: 0, buttons, pointerId: 1, pointerType: 'mouse', isPrimary: true};" +
+        "  el.dispatchEvent(new PointerEvent(type, init));" +
+        "  el.dispatchEvent(new MouseEvent(type.replace('pointer', 'mouse'), init));" +
+        "};" +
+        "const pointerDrag = async (source, target) => {" +
+        "  const from = center(source);" +
+        "  const to = center(target);" +
+        "  pointerEvent(source, 'pointerdown', from, 1);" +
+        "  await yieldTask();" +
+        // Intermediate moves get past the drag thresholds libraries use to tell drags from clicks
+        "  const steps = 5;" +
+        "  for (let i = 1; i <= steps; i++) {" +
+        "    const point = {x: from.x + (to.x - from.x) * i / steps, y: from.y + (to.y - from.y) * i / steps};" +
+        "    pointerEvent(document.elementFromPoint(point.x, point.y) || target, 'pointermove', point, 1);" +
+        "  }" +
+        "  await yieldTask();" +
+        "  const dropTarget = document.elementFromPoint(to.x, to.y) || target;" +
+        "  pointerEvent(dropTarget, 'pointerup', to, 0);" +
+        "  return true;" +
+        "};" +
+        "(async () => {" +
+        "  const results = [];" +
+        "  for (const move of moves) {" +
+        "    move.source.scrollIntoView({block: 'center', inline: 'center'});" +
+        "    let used = mode === 'AUTO' ? (isDraggable(move.source) ? 'HTML5' : 'POINTER') : mode;" +
+        "    let accepted = used === 'HTML5' ? await html5Drag(move.source, move.target) : await pointerDrag(move.source, move.target);" +
+        "    if (!accepted && mode === 'AUTO') {" +
+        "      used = 'POINTER';" +
+        "      accepted = await pointerDrag(move.source, move.target);" +
+        "    }" +
+        "    results.push({mode: used, accepted});" +
+        "  }" +
+        "  return results;" +
+        "})().then(done, e => done({error: String(e && e.message || e)}));";
+
+    private DragAndDropUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * One drag from a source to a target element
+     */
+    @Value
+    public static class Move {
+        WebElement source;
+        WebElement target;
+
+        public static Move of(WebElement source, WebElement target) {
+            return new Move(source, target);
+        }
+    }
+
+    /**
+     * Outcome of one drag: the event model used and whether the target accepted the drop.
+     * Pointer drags are always reported as accepted, the page state tells whether they worked.
+     */
+    @Value
+    public static class DragResult {
+        Mode mode;
+        boolean accepted;
+    }
+
+    /**
+     * Drag source onto target, detecting the event model
+     */
+    @Step("Drag element onto target")
+    public static DragResult drag(WebDriver driver, WebElement source, WebElement target) {
+        return drag(driver, source, target, Mode.AUTO);
+    }
+
+    /**
+     * Drag source onto target with the given event model
+     */
+    @Step("Drag element onto target using {mode} events")
+    public static DragResult drag(WebDriver driver, WebElement source, WebElement target, Mode mode) {
+        return dragAll(driver, Collections.singletonList(Move.of(source, target)), mode).get(0);
+    }
+
+    /**
+     * Drag each source onto the same target, in order
+     */
+    @Step("Drag elements onto target")
+    public static List<DragResult> dragAllTo(WebDriver driver, List<WebElement> sources, WebElement target) {
+        List<Move> moves = new ArrayList<>(sources.size());
+        for (WebElement source : sources) {
+            moves.add(Move.of(source, target));
+        }
+        return dragAll(driver, moves, Mode.AUTO);
+    }
+
+    /**
+     * Perform several drags in one script, in order; each drag sees the page state left by the previous one
+     */
+    @Step("Perform drags using {mode} events")
+    @SuppressWarnings("unchecked")
+    public static List<DragResult> dragAll(WebDriver driver, List<Move> moves, Mode mode) {
+        if (moves.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Map<String, Object>> scriptMoves = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            scriptMoves.add(Map.of("source", move.getSource(), "target", move.getTarget()));
+        }
+
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(DRAG_SCRIPT, scriptMoves, mode.name());
+        if (result instanceof Map) {
+            throw new IllegalStateException("Drag script failed: " + ((Map<String, Object>) result).get("error"));
+        }
+
+        List<DragResult> results = new ArrayList<>(moves.size());
+        for (Map<String, Object> item : (List<Map<String, Object>>) result) {
+            results.add(new DragResult(Mode.valueOf((String) item.get("mode")), Boolean.TRUE.equals(item.get("accepted"))));
+        }
+        log.info("Performed {} drags: {}", results.size(), results);
+        return results;
+    }
+}
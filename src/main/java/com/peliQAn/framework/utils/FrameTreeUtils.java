@@ -0,0 +1,173 @@
+package com.peliQAn.framework.utils;
+
+import io.qameta.allure.Step;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for reading a whole frame tree in one round trip.
+ * Same-origin frames are walked through contentDocument inside a single script;
+ * cross-origin frames are reported as inaccessible so callers can switch into them.
+ */
+@Slf4j
+public class FrameTreeUtils {
+
+    private static final String FRAME_SELECTOR = "iframe, frame";
+
+    private static final String HARVEST_SCRIPT =
+        "const selectors = arguments[0];" +
+        "const loadingSelector = arguments[1];" +
+        "const isVisible = el => !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length);" +
+        "const describe = el => ({" +
+        "  tag: el.tagName.toLowerCase()," +
+        "  id: el.id || null," +
+        "  type: el.getAttribute('type')," +
+        "  text: (el.innerText || el.textContent || '').trim()," +
+        "  dataKey: el.getAttribute('data-key')," +
+        "  visible: isVisible(el)," +
+        "  enabled: !el.disabled" +
+        "});" +
+        "const frames = [];" +
+        "const walk = (doc, path, frameId, src) => {" +
+        "  const entry = {path: path, frameId: frameId, src: src, accessible: true, loading: false, matches: {}};" +
+        "  frames.push(entry);" +
+        // A frame that has not started navigating yet still shows its initial about:blank document
+        "  const pending = !!src && src !== 'about:blank' && doc.URL === 'about:blank';" +
+        "  entry.loading = pending || doc.readyState !== 'complete' ||" +
+        "    (!!loadingSelector && Array.from(doc.querySelectorAll(loadingSelector)).some(isVisible));" +
+        "  Object.keys(selectors).forEach(name => {" +
+        "    entry.matches[name] = Array.from(doc.querySelectorAll(selectors[name])).map(describe);" +
+        "  });" +
+        "  doc.querySelectorAll('" + FRAME_SELECTOR + "').forEach((child, index) => {" +
+        "    const childPath = path.concat([index]);" +
+        "    let childDoc = null;" +
+        "    try { childDoc = child.contentDocument; } catch (e) { childDoc = null; }" +
+        "    if (childDoc) {" +
+        "      walk(childDoc, childPath, child.id || null, child.src || null);" +
+        "    } else {" +
+        "      frames.push({path: childPath, frameId: child.id || null, src: child.src || null," +
+        "                   accessible: false, loading: false, matches: {}});" +
+        "    }" +
+        "  });" +
+        "};" +
+        "walk(document, [], null, location.href);" +
+        "return frames;";
+
+    private static final String CLICK_SCRIPT =
+        "const selector = arguments[0];" +
+        "let clicked = 0;" +
+        "const walk = doc => {" +
+        "  doc.querySelectorAll(selector).forEach(el => { el.click(); clicked++; });" +
+        "  doc.querySelectorAll('" + FRAME_SELECTOR + "').forEach(child => {" +
+        "    let childDoc = null;" +
+        "    try { childDoc = child.contentDocument; } catch (e) { childDoc = null; }" +
+        "    if (childDoc) { walk(childDoc); }" +
+        "  });" +
+        "};" +
+        "walk(document);" +
+        "return clicked;";
+
+    private FrameTreeUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Snapshot of one frame: its index path from the harvested document and the selector matches in it
+     */
+    @Value
+    public static class FrameSnapshot {
+        List<Integer> path;
+        String frameId;
+        String src;
+        boolean accessible;
+        boolean loading;
+        Map<String, List<Map<String, Object>>> matches;
+
+        /**
+         * Matches for a named selector, empty if none
+         */
+        public List<Map<String, Object>> getMatches(String selectorName) {
+            return matches.getOrDefault(selectorName, Collections.emptyList());
+        }
+
+        /**
+         * Path as a readable string, e.g. "root/0/2"
+         */
+        public String getPathName() {
+            StringBuilder name = new StringBuilder("root");
+            for (Integer index : path) {
+                name.append('/').append(index);
+            }
+            return name.toString();
+        }
+    }
+
+    /**
+     * Harvest every frame below the current browsing context in one script.
+     * Cheap enough to poll; callers waiting for the tree to load should report the wait as their step.
+     *
+     * @param selectors named CSS selectors to match in every frame
+     * @param loadingSelector optional selector of loading indicators, null to skip
+     * @return one snapshot per frame, the current document first
+     */
+    @SuppressWarnings("unchecked")
+    public static List<FrameSnapshot> harvest(WebDriver driver, Map<String, String> selectors, String loadingSelector) {
+        List<Map<String, Object>> rawFrames = (List<Map<String, Object>>)
+                ((JavascriptExecutor) driver).executeScript(HARVEST_SCRIPT, selectors, loadingSelector);
+
+        List<FrameSnapshot> frames = new ArrayList<>();
+        for (Map<String, Object> rawFrame : rawFrames) {
+            List<Integer> path = new ArrayList<>();
+            for (Object index : (List<Object>) rawFrame.get("path")) {
+                path.add(((Number) index).intValue());
+            }
+            Map<String, List<Map<String, Object>>> matches = new LinkedHashMap<>(
+                    (Map<String, List<Map<String, Object>>>) rawFrame.get("matches"));
+
+            frames.add(new FrameSnapshot(
+                    path,
+                    (String) rawFrame.get("frameId"),
+                    (String) rawFrame.get("src"),
+                    Boolean.TRUE.equals(rawFrame.get("accessible")),
+                    Boolean.TRUE.equals(rawFrame.get("loading")),
+                    matches));
+        }
+
+        log.debug("Harvested {} frames", frames.size());
+        return frames;
+    }
+
+    /**
+     * Click every element matching the selector in all same-origin frames with one script
+     *
+     * @return number of clicked elements
+     */
+    @Step("Click all elements matching {selector} in frame tree")
+    public static int clickInAllFrames(WebDriver driver, String selector) {
+        Number clicked = (Number) ((JavascriptExecutor) driver).executeScript(CLICK_SCRIPT, selector);
+        log.debug("Clicked {} elements matching {} across frames", clicked, selector);
+        return clicked.intValue();
+    }
+
+    /**
+     * Switch into the frame at the given index path, starting from the current browsing context.
+     * Only needed when a native interaction is required inside the frame; page objects should
+     * prefer BasePage.switchToFramePath, which keeps track of the frame stack.
+     */
+    @Step("Switch to frame path: {path}")
+    public static void switchToPath(WebDriver driver, List<Integer> path) {
+        for (Integer index : path) {
+            driver.switchTo().frame(driver.findElements(By.cssSelector(FRAME_SELECTOR)).get(index));
+        }
+        log.debug("Switched to frame path: {}", path);
+    }
+}
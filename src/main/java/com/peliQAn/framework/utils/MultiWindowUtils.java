@@ -6,10 +6,12 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -19,6 +21,8 @@ import java.util.function.Function;
 @Slf4j
 public class MultiWindowUtils {
 
+    private static final Duration NEW_WINDOW_TIMEOUT = Duration.ofSeconds(5);
+
     private MultiWindowUtils() {
         // Private constructor to prevent instantiation
     }
@@ -28,6 +32,16 @@ public class MultiWindowUtils {
      */
     @Step("Get all window handles with titles")
     public static Map<String, String> getAllWindowHandlesWithTitles(WebDriver driver) {
+        Optional<WindowRegistry> registry = titleRegistry(driver);
+        if (registry.isPresent()) {
+            Map<String, String> handleTitleMap = new HashMap<>();
+            for (WindowRegistry.WindowInfo info : registry.get().getWindows()) {
+                handleTitleMap.put(info.getHandle(), info.getTitle());
+            }
+            log.info("Found {} windows: {}", handleTitleMap.size(), handleTitleMap);
+            return handleTitleMap;
+        }
+
         String currentHandle = driver.getWindowHandle();
         Set<String> handles = driver.getWindowHandles();
         Map<String, String> handleTitleMap = new HashMap<>();
@@ -49,21 +63,17 @@ public class MultiWindowUtils {
      */
     @Step("Find window handle by title: {title}")
     public static String findWindowHandleByTitle(WebDriver driver, String title) {
-        String currentHandle = driver.getWindowHandle();
-        Set<String> handles = driver.getWindowHandles();
-        String targetHandle = null;
+        String targetHandle;
+        Optional<WindowRegistry> registry = titleRegistry(driver);
         
-        for (String handle : handles) {
-            driver.switchTo().window(handle);
-            if (driver.getTitle().contains(title)) {
-                targetHandle = handle;
-                break;
-            }
+        if (registry.isPresent()) {
+            targetHandle = registry.get().findByTitle(title)
+                    .map(WindowRegistry.WindowInfo::getHandle)
+                    .orElse(null);
+        } else {
+            targetHandle = findWindowHandleBySwitching(driver, d -> d.getTitle().contains(title));
         }
         
-        // Switch back to original window
-        driver.switchTo().window(currentHandle);
-        
         if (targetHandle != null) {
             log.info("Found window with title '{}', handle: {}", title, targetHandle);
         } else {
@@ -78,13 +88,36 @@ public class MultiWindowUtils {
      */
     @Step("Find window handle by URL: {urlPart}")
     public static String findWindowHandleByUrl(WebDriver driver, String urlPart) {
+        String targetHandle;
+        Optional<WindowRegistry> registry = WindowRegistry.forDriver(driver);
+        
+        if (registry.isPresent()) {
+            targetHandle = registry.get().findByUrl(urlPart)
+                    .map(WindowRegistry.WindowInfo::getHandle)
+                    .orElse(null);
+        } else {
+            targetHandle = findWindowHandleBySwitching(driver, d -> d.getCurrentUrl().contains(urlPart));
+        }
+        
+        if (targetHandle != null) {
+            log.info("Found window with URL containing '{}', handle: {}", urlPart, targetHandle);
+        } else {
+            log.warn("No window found with URL containing: {}", urlPart);
+        }
+        
+        return targetHandle;
+    }
+
+    /**
+     * Find window handle by switching into each window until the condition matches
+     */
+    private static String findWindowHandleBySwitching(WebDriver driver, Function<WebDriver, Boolean> condition) {
         String currentHandle = driver.getWindowHandle();
-        Set<String> handles = driver.getWindowHandles();
         String targetHandle = null;
         
-        for (String handle : handles) {
+        for (String handle : driver.getWindowHandles()) {
             driver.switchTo().window(handle);
-            if (driver.getCurrentUrl().contains(urlPart)) {
+            if (condition.apply(driver)) {
                 targetHandle = handle;
                 break;
             }
@@ -92,16 +125,16 @@ public class MultiWindowUtils {
         
         // Switch back to original window
         driver.switchTo().window(currentHandle);
-        
-        if (targetHandle != null) {
-            log.info("Found window with URL containing '{}', handle: {}", urlPart, targetHandle);
-        } else {
-            log.warn("No window found with URL containing: {}", urlPart);
-        }
-        
         return targetHandle;
     }
 
+    /**
+     * Get the window registry if it can answer title lookups
+     */
+    private static Optional<WindowRegistry> titleRegistry(WebDriver driver) {
+        return WindowRegistry.forDriver(driver).filter(WindowRegistry::tracksTitles);
+    }
+
     /**
      * Execute function in window
      */
@@ -138,6 +171,11 @@ public class MultiWindowUtils {
         String currentHandle = driver.getWindowHandle();
         Set<String> handles = driver.getWindowHandles();
         
+        if (closeInBatch(driver, handles, currentHandle)) {
+            log.info("Closed all windows except current window");
+            return;
+        }
+        
         for (String handle : handles) {
             if (!handle.equals(currentHandle)) {
                 driver.switchTo().window(handle);
@@ -157,6 +195,12 @@ public class MultiWindowUtils {
     public static void closeAllWindowsExcept(WebDriver driver, String windowHandle) {
         Set<String> handles = driver.getWindowHandles();
         
+        if (closeInBatch(driver, handles, windowHandle)) {
+            driver.switchTo().window(windowHandle);
+            log.info("Closed all windows except window with handle: {}", windowHandle);
+            return;
+        }
+        
         for (String handle : handles) {
             if (!handle.equals(windowHandle)) {
                 driver.switchTo().window(handle);
@@ -169,6 +213,42 @@ public class MultiWindowUtils {
         log.info("Closed all windows except window with handle: {}", windowHandle);
     }
 
+    /**
+     * Close all windows except the kept one in a single CDP batch.
+     * Returns false when CDP is not available and windows must be closed one by one.
+     */
+    private static boolean closeInBatch(WebDriver driver, Set<String> handles, String keptHandle) {
+        Optional<CrossWindowExecutor> executor = CrossWindowExecutor.forDriver(driver);
+        if (executor.isEmpty()) {
+            return false;
+        }
+        
+        List<String> toClose = new ArrayList<>(handles);
+        toClose.remove(keptHandle);
+        executor.get().closeWindows(toClose);
+        return true;
+    }
+
+    /**
+     * Execute script in several windows concurrently without switching focus.
+     * Falls back to switching into each window when CDP is not available.
+     */
+    @Step("Execute script in windows: {windowHandles}")
+    public static Map<String, Object> executeScriptInWindows(WebDriver driver, List<String> windowHandles,
+                                                             String script, Object... args) {
+        Optional<CrossWindowExecutor> executor = CrossWindowExecutor.forDriver(driver);
+        if (executor.isPresent()) {
+            return executor.get().executeInWindows(windowHandles, script, args);
+        }
+        
+        Map<String, Object> results = new HashMap<>();
+        for (String handle : windowHandles) {
+            results.put(handle, executeInWindow(driver, handle,
+                    d -> ((JavascriptExecutor) d).executeScript(script, args)));
+        }
+        return results;
+    }
+
     /**
      * Open new window with JavaScript
      */
@@ -180,11 +260,7 @@ public class MultiWindowUtils {
         ((JavascriptExecutor) driver).executeScript("window.open('" + url + "', '_blank');");
         
         // Wait for new window to open
-        Set<String> handlesAfter = waitForNewWindow(driver, handlesBefore);
-        
-        // Find new window handle
-        handlesAfter.removeAll(handlesBefore);
-        String newHandle = handlesAfter.iterator().next();
+        String newHandle = waitForNewWindow(driver, handlesBefore);
         
         log.info("Opened new window with URL: {}, handle: {}", url, newHandle);
         
@@ -192,9 +268,27 @@ public class MultiWindowUtils {
     }
 
     /**
-     * Wait for new window to open
+     * Wait for new window to open and return its handle
+     */
+    public static String waitForNewWindow(WebDriver driver, Set<String> handlesBefore) {
+        Optional<WindowRegistry> registry = WindowRegistry.forDriver(driver);
+        if (registry.isPresent()) {
+            // Resolves as soon as the browser reports the new target
+            return registry.get().awaitNewWindow(handlesBefore, NEW_WINDOW_TIMEOUT);
+        }
+        
+        Set<String> handlesAfter = pollForNewWindow(driver, handlesBefore);
+        handlesAfter.removeAll(handlesBefore);
+        if (handlesAfter.isEmpty()) {
+            throw new org.openqa.selenium.TimeoutException("No new window appeared within " + NEW_WINDOW_TIMEOUT);
+        }
+        return handlesAfter.iterator().next();
+    }
+
+    /**
+     * Poll window handles until a new one appears
      */
-    private static Set<String> waitForNewWindow(WebDriver driver, Set<String> handlesBefore) {
+    private static Set<String> pollForNewWindow(WebDriver driver, Set<String> handlesBefore) {
         Set<String> handlesAfter = driver.getWindowHandles();
         int attempts = 0;
         
@@ -0,0 +1,306 @@
+package com.peliQAn.framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peliQAn.framework.config.PropertyManager;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v120.network.Network;
+import org.openqa.selenium.devtools.v120.network.model.ResourceType;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Captures WebSocket frames and Server-Sent Events at network level over CDP.
+ * Received messages are kept in a bounded ring per driver (one driver per scenario),
+ * so tests can check ordering, gaps and throughput of the source data without waiting for rendering.
+ */
+@Slf4j
+public class NetworkStreamTap {
+
+    public static final String WEBSOCKET = "websocket";
+    public static final String EVENT_SOURCE = "eventsource";
+
+    private static final int DEFAULT_CAPACITY = 5000;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Map<WebDriver, NetworkStreamTap> taps =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final int capacity;
+    private final ArrayDeque<StreamFrame> frames;
+    private final Map<String, String> urlsByRequestId = new ConcurrentHashMap<>();
+    private long receivedCount;
+    private long droppedCount;
+
+    /**
+     * One received WebSocket frame or SSE message.
+     * The timestamp is the browser's monotonic network time in seconds.
+     */
+    @Value
+    public static class StreamFrame {
+        long index;
+        String kind;
+        String requestId;
+        String url;
+        double timestamp;
+        String eventName;
+        String eventId;
+        String payload;
+    }
+
+    /**
+     * Missing range in a sequence of message numbers
+     */
+    @Value
+    public static class Gap {
+        long after;
+        long before;
+
+        public long getMissingCount() {
+            return before - after - 1;
+        }
+    }
+
+    private NetworkStreamTap(int capacity) {
+        this.capacity = capacity;
+        this.frames = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Get the tap for a driver, starting capture on first use.
+     * Returns empty for browsers without CDP.
+     */
+    public static Optional<NetworkStreamTap> forDriver(WebDriver driver) {
+        synchronized (taps) {
+            if (taps.containsKey(driver)) {
+                return Optional.ofNullable(taps.get(driver));
+            }
+            NetworkStreamTap tap = null;
+            // Firefox implements HasDevTools without a CDP endpoint, which is not an error
+            Optional<DevTools> devTools = driver instanceof HasDevTools
+                    ? ((HasDevTools) driver).maybeGetDevTools()
+                    : Optional.empty();
+            if (devTools.isPresent()) {
+                try {
+                    int capacity = PropertyManager.getInstance().getIntProperty("network.streamTap.capacity", DEFAULT_CAPACITY);
+                    tap = new NetworkStreamTap(capacity);
+                    tap.listen(devTools.get());
+                } catch (Exception e) {
+                    log.warn("Could not start network stream tap: {}", e.getMessage());
+                    tap = null;
+                }
+            } else {
+                log.debug("Driver has no CDP endpoint, network stream tap not available");
+            }
+            taps.put(driver, tap);
+            return Optional.ofNullable(tap);
+        }
+    }
+
+    /**
+     * Forget the tap for a driver (called when the driver quits)
+     */
+    public static void release(WebDriver driver) {
+        taps.remove(driver);
+    }
+
+    private void listen(DevTools devTools) {
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+
+        devTools.addListener(Network.webSocketCreated(), created ->
+                urlsByRequestId.put(created.getRequestId().toString(), created.getUrl()));
+        devTools.addListener(Network.requestWillBeSent(), request -> {
+            if (request.getType().filter(ResourceType.EVENTSOURCE::equals).isPresent()) {
+                urlsByRequestId.put(request.getRequestId().toString(), request.getRequest().getUrl());
+            }
+        });
+
+        devTools.addListener(Network.webSocketFrameReceived(), received -> {
+            String requestId = received.getRequestId().toString();
+            add(WEBSOCKET, requestId, received.getTimestamp().toJson().doubleValue(),
+                    null, null, received.getResponse().getPayloadData());
+        });
+        devTools.addListener(Network.eventSourceMessageReceived(), message -> {
+            String requestId = message.getRequestId().toString();
+            add(EVENT_SOURCE, requestId, message.getTimestamp().toJson().doubleValue(),
+                    message.getEventName(), message.getEventId(), message.getData());
+        });
+
+        log.info("Started network stream tap with capacity {}", capacity);
+    }
+
+    private synchronized void add(String kind, String requestId, double timestamp,
+                                  String eventName, String eventId, String payload) {
+        if (frames.size() == capacity) {
+            frames.removeFirst();
+            droppedCount++;
+        }
+        frames.addLast(new StreamFrame(receivedCount++, kind, requestId, urlsByRequestId.get(requestId),
+                timestamp, eventName, eventId, payload));
+        notifyAll();
+    }
+
+    /**
+     * All buffered messages, oldest first
+     */
+    public synchronized List<StreamFrame> getFrames() {
+        return new ArrayList<>(frames);
+    }
+
+    /**
+     * Buffered messages matching the filter, oldest first
+     */
+    public synchronized List<StreamFrame> getFrames(Predicate<StreamFrame> filter) {
+        List<StreamFrame> matching = new ArrayList<>();
+        for (StreamFrame frame : frames) {
+            if (filter.test(frame)) {
+                matching.add(frame);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Filter for messages of a stream whose URL contains the text
+     */
+    public static Predicate<StreamFrame> urlContains(String urlPart) {
+        return frame -> frame.getUrl() != null && frame.getUrl().contains(urlPart);
+    }
+
+    /**
+     * Wait until at least the given number of messages matching the filter were received
+     *
+     * @return matching buffered messages
+     */
+    public synchronized List<StreamFrame> awaitFrames(Predicate<StreamFrame> filter, int count, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<StreamFrame> matching = getFrames(filter);
+        while (matching.size() < count) {
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                throw new org.openqa.selenium.TimeoutException("Received " + matching.size() + " of " + count
+                        + " stream messages within " + timeout);
+            }
+            try {
+                wait(remainingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for stream messages", e);
+            }
+            matching = getFrames(filter);
+        }
+        return matching;
+    }
+
+    /**
+     * Sequence number taken from the SSE event id
+     */
+    public static Function<StreamFrame, OptionalLong> eventIdSequence() {
+        return frame -> parseLong(frame.getEventId());
+    }
+
+    /**
+     * Sequence number taken from a numeric field of a JSON payload
+     */
+    public static Function<StreamFrame, OptionalLong> jsonSequence(String fieldName) {
+        return frame -> {
+            try {
+                JsonNode field = objectMapper.readTree(frame.getPayload()).get(fieldName);
+                return field != null && field.canConvertToLong() ? OptionalLong.of(field.asLong()) : OptionalLong.empty();
+            } catch (Exception e) {
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    private static OptionalLong parseLong(String value) {
+        try {
+            return value == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Whether sequence numbers of the messages strictly increase; messages without one are skipped
+     */
+    public static boolean isOrdered(List<StreamFrame> messages, Function<StreamFrame, OptionalLong> sequence) {
+        long previous = Long.MIN_VALUE;
+        for (StreamFrame message : messages) {
+            OptionalLong current = sequence.apply(message);
+            if (current.isPresent()) {
+                if (current.getAsLong() <= previous) {
+                    return false;
+                }
+                previous = current.getAsLong();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ranges of sequence numbers that were skipped between consecutive messages
+     */
+    public static List<Gap> findGaps(List<StreamFrame> messages, Function<StreamFrame, OptionalLong> sequence) {
+        List<Gap> gaps = new ArrayList<>();
+        Long previous = null;
+        for (StreamFrame message : messages) {
+            OptionalLong current = sequence.apply(message);
+            if (!current.isPresent()) {
+                continue;
+            }
+            if (previous != null && current.getAsLong() > previous + 1) {
+                gaps.add(new Gap(previous, current.getAsLong()));
+            }
+            previous = current.getAsLong();
+        }
+        return gaps;
+    }
+
+    /**
+     * Messages per second between the first and last message, 0 for fewer than two messages
+     */
+    public static double throughput(List<StreamFrame> messages) {
+        if (messages.size() < 2) {
+            return 0;
+        }
+        double span = messages.get(messages.size() - 1).getTimestamp() - messages.get(0).getTimestamp();
+        return span <= 0 ? 0 : (messages.size() - 1) / span;
+    }
+
+    /**
+     * Number of messages received since start, including dropped ones
+     */
+    public synchronized long getReceivedCount() {
+        return receivedCount;
+    }
+
+    /**
+     * Number of messages pushed out of the ring by newer ones
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Drop all buffered messages
+     */
+    public synchronized void clear() {
+        frames.clear();
+    }
+}
@@ -0,0 +1,269 @@
+package com.peliQAn.framework.utils;
+
+import io.qameta.allure.Step;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records value changes of live stream elements inside the browser.
+ * A MutationObserver on the stream container appends (streamId, value, performance.now())
+ * to an in-page ring buffer, and the Java side drains it in batches into StreamTimeSeries,
+ * so no change is missed between polls and every change costs no extra round trip.
+ */
+@Slf4j
+public class StreamRecorder {
+
+    private static final int DEFAULT_CAPACITY = 10000;
+    private static final int DRAIN_BATCH_SIZE = 2000;
+    private static final Duration MAX_LONG_POLL = Duration.ofSeconds(2);
+    // After the first change, wait this long so one round trip carries a batch of changes
+    private static final long BATCH_WINDOW_MILLIS = 50;
+
+    private static final String INSTALL_SCRIPT =
+        "const container = document.querySelector(arguments[0]);" +
+        "const streamSelector = arguments[1];" +
+        "const valueSelector = arguments[2];" +
+        "const capacity = arguments[3];" +
+        "if (!container) { return false; }" +
+        "if (window.__streamRecorder) { window.__streamRecorder.observer.disconnect(); }" +
+        "const rec = {streams: new Array(capacity), values: new Array(capacity), times: new Float64Array(capacity)," +
+        "             head: 0, count: 0, dropped: 0, last: new Map(), waiter: null};" +
+        "rec.push = (id, value, time) => {" +
+        "  if (value === null || rec.last.get(id) === value) { return; }" +
+        "  rec.last.set(id, value);" +
+        "  const slot = (rec.head + rec.count) % capacity;" +
+        "  if (rec.count === capacity) { rec.head = (rec.head + 1) % capacity; rec.dropped++; } else { rec.count++; }" +
+        "  rec.streams[slot] = id; rec.values[slot] = value; rec.times[slot] = time;" +
+        "  if (rec.waiter) { const wake = rec.waiter; rec.waiter = null; wake(); }" +
+        "};" +
+        "rec.drain = max => {" +
+        "  const n = Math.min(max, rec.count);" +
+        "  const out = {streams: [], values: [], times: [], dropped: rec.dropped, remaining: 0};" +
+        "  for (let i = 0; i < n; i++) {" +
+        "    const slot = (rec.head + i) % capacity;" +
+        "    out.streams.push(rec.streams[slot]); out.values.push(rec.values[slot]); out.times.push(rec.times[slot]);" +
+        "    rec.streams[slot] = undefined; rec.values[slot] = undefined;" +
+        "  }" +
+        "  rec.head = (rec.head + n) % capacity;" +
+        "  rec.count -= n;" +
+        "  out.remaining = rec.count;" +
+        "  return out;" +
+        "};" +
+        "const read = stream => {" +
+        "  const valueEl = stream.querySelector(valueSelector);" +
+        "  return valueEl ? (valueEl.textContent || '').trim() : null;" +
+        "};" +
+        "const record = (streams, time) => streams.forEach(stream => rec.push(stream.id, read(stream), time));" +
+        "rec.observer = new MutationObserver(mutations => {" +
+        "  const time = performance.now();" +
+        "  const changed = new Set();" +
+        "  mutations.forEach(mutation => {" +
+        "    const node = mutation.target;" +
+        "    const el = node.nodeType === 1 ? node : node.parentElement;" +
+        "    const stream = el ? el.closest(streamSelector) : null;" +
+        "    if (stream) { changed.add(stream); }" +
+        "    mutation.addedNodes.forEach(added => {" +
+        "      if (added.nodeType !== 1) { return; }" +
+        "      if (added.matches(streamSelector)) { changed.add(added); }" +
+        "      added.querySelectorAll(streamSelector).forEach(s => changed.add(s));" +
+        "    });" +
+        "  });" +
+        "  record(changed, time);" +
+        "});" +
+        "rec.observer.observe(container, {subtree: true, childList: true, characterData: true});" +
+        "record(container.querySelectorAll(streamSelector), performance.now());" +
+        "window.__streamRecorder = rec;" +
+        "return true;";
+
+    private static final String DRAIN_SCRIPT =
+        "const rec = window.__streamRecorder;" +
+        "return rec ? rec.drain(arguments[0]) : null;";
+
+    private static final String AWAIT_DRAIN_SCRIPT =
+        "const max = arguments[0];" +
+        "const timeout = arguments[1];" +
+        "const batchWindow = arguments[2];" +
+        "const done = arguments[arguments.length - 1];" +
+        "const rec = window.__streamRecorder;" +
+        "if (!rec) { done(null); return; }" +
+        "if (rec.count > 0) { done(rec.drain(max)); return; }" +
+        "const timer = setTimeout(() => { rec.waiter = null; done(rec.drain(max)); }, timeout);" +
+        "rec.waiter = () => { clearTimeout(timer); setTimeout(() => done(rec.drain(max)), batchWindow); };";
+
+    private static final String STOP_SCRIPT =
+        "const rec = window.__streamRecorder;" +
+        "if (rec) { rec.observer.disconnect(); delete window.__streamRecorder; }";
+
+    private final JavascriptExecutor js;
+    private final Map<String, StreamTimeSeries> series = new LinkedHashMap<>();
+    private long droppedCount;
+    private long recordedCount;
+
+    private StreamRecorder(WebDriver driver) {
+        this.js = (JavascriptExecutor) driver;
+    }
+
+    /**
+     * Install the recorder with the default ring buffer size
+     *
+     * @param containerSelector element observed for changes
+     * @param streamSelector stream elements inside the container, identified by their id
+     * @param valueSelector element inside a stream holding its value
+     */
+    public static StreamRecorder start(WebDriver driver, String containerSelector,
+                                       String streamSelector, String valueSelector) {
+        return start(driver, containerSelector, streamSelector, valueSelector, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Install the recorder with a ring buffer of the given capacity
+     */
+    @Step("Start stream recorder on {containerSelector}")
+    public static StreamRecorder start(WebDriver driver, String containerSelector, String streamSelector,
+                                       String valueSelector, int capacity) {
+        StreamRecorder recorder = new StreamRecorder(driver);
+        Object installed = recorder.js.executeScript(INSTALL_SCRIPT, containerSelector, streamSelector,
+                valueSelector, capacity);
+        if (!Boolean.TRUE.equals(installed)) {
+            throw new IllegalStateException("Stream container not found: " + containerSelector);
+        }
+        log.info("Started stream recorder on {} with buffer capacity {}", containerSelector, capacity);
+        return recorder;
+    }
+
+    /**
+     * Drain everything currently buffered in the page
+     *
+     * @return number of drained changes
+     */
+    public int drain() {
+        int drained = 0;
+        Map<String, Object> batch;
+        do {
+            batch = asBatch(js.executeScript(DRAIN_SCRIPT, DRAIN_BATCH_SIZE));
+            drained += apply(batch);
+        } while (batch != null && ((Number) batch.get("remaining")).intValue() > 0);
+        return drained;
+    }
+
+    /**
+     * Wait in the page until changes arrive or the wait expires, then drain one batch
+     *
+     * @return number of drained changes
+     */
+    public int awaitAndDrain(Duration maxWait) {
+        Object batch = js.executeAsyncScript(AWAIT_DRAIN_SCRIPT, DRAIN_BATCH_SIZE, maxWait.toMillis(),
+                BATCH_WINDOW_MILLIS);
+        return apply(asBatch(batch));
+    }
+
+    /**
+     * Keep draining for the given duration, one round trip per batch of changes
+     */
+    @Step("Record streams for {duration}")
+    public StreamRecorder recordFor(Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            awaitAndDrain(Duration.ofNanos(Math.min(remaining, MAX_LONG_POLL.toNanos())));
+        }
+        drain();
+        log.info("Recorded {} changes across {} streams, {} dropped", recordedCount, series.size(), droppedCount);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asBatch(Object result) {
+        return (Map<String, Object>) result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int apply(Map<String, Object> batch) {
+        if (batch == null) {
+            return 0;
+        }
+        List<Object> streams = (List<Object>) batch.get("streams");
+        List<Object> values = (List<Object>) batch.get("values");
+        List<Object> times = (List<Object>) batch.get("times");
+        for (int i = 0; i < streams.size(); i++) {
+            String streamId = String.valueOf(streams.get(i));
+            series.computeIfAbsent(streamId, StreamTimeSeries::new)
+                    .append(((Number) times.get(i)).doubleValue(), (String) values.get(i));
+        }
+        recordedCount += streams.size();
+
+        long dropped = ((Number) batch.get("dropped")).longValue();
+        if (dropped > droppedCount) {
+            log.warn("Stream recorder buffer overflowed, {} changes dropped so far", dropped);
+            droppedCount = dropped;
+        }
+        return streams.size();
+    }
+
+    /**
+     * Current page time in milliseconds, on the same clock as recorded changes
+     */
+    public double pageTime() {
+        return ((Number) js.executeScript("return performance.now();")).doubleValue();
+    }
+
+    /**
+     * History of one stream, null if it never reported a value
+     */
+    public StreamTimeSeries getSeries(String streamId) {
+        return series.get(streamId);
+    }
+
+    /**
+     * Histories of all recorded streams
+     */
+    public Map<String, StreamTimeSeries> getAllSeries() {
+        return Collections.unmodifiableMap(series);
+    }
+
+    /**
+     * Value of every stream at the given page time; streams without a value yet are left out
+     */
+    public Map<String, String> valuesAt(double pageTime) {
+        Map<String, String> values = new LinkedHashMap<>();
+        series.forEach((streamId, history) -> {
+            String value = history.valueAt(pageTime);
+            if (value != null) {
+                values.put(streamId, value);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Latest value of every stream
+     */
+    public Map<String, String> latestValues() {
+        Map<String, String> values = new LinkedHashMap<>();
+        series.forEach((streamId, history) -> values.put(streamId, history.latestValue()));
+        return values;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public long getRecordedCount() {
+        return recordedCount;
+    }
+
+    /**
+     * Disconnect the observer and remove the buffer from the page
+     */
+    public void stop() {
+        js.executeScript(STOP_SCRIPT);
+        log.debug("Stopped stream recorder");
+    }
+}
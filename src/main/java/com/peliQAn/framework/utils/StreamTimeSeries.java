@@ -0,0 +1,128 @@
+package com.peliQAn.framework.utils;
+
+import java.util.Arrays;
+
+/**
+ * Append-only change history of one stream, kept in primitive arrays.
+ * Timestamps are page time in milliseconds (performance.now()) and must be appended in order,
+ * so point-in-time lookups are a binary search.
+ */
+public class StreamTimeSeries {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final String streamId;
+    private double[] times = new double[INITIAL_CAPACITY];
+    private double[] numericValues = new double[INITIAL_CAPACITY];
+    private String[] rawValues = new String[INITIAL_CAPACITY];
+    private int size;
+
+    public StreamTimeSeries(String streamId) {
+        this.streamId = streamId;
+    }
+
+    /**
+     * Append a change; non-numeric values are stored with NaN as numeric value
+     */
+    public void append(double time, String value) {
+        if (size > 0 && time < times[size - 1]) {
+            throw new IllegalArgumentException("Stream " + streamId + " change at " + time
+                    + " is older than last change at " + times[size - 1]);
+        }
+        if (size == times.length) {
+            int capacity = size * 2;
+            times = Arrays.copyOf(times, capacity);
+            numericValues = Arrays.copyOf(numericValues, capacity);
+            rawValues = Arrays.copyOf(rawValues, capacity);
+        }
+        times[size] = time;
+        numericValues[size] = parse(value);
+        rawValues[size] = value;
+        size++;
+    }
+
+    private static double parse(String value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Index of the last change at or before the time, -1 if the stream had no value yet
+     */
+    public int indexAt(double time) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Value shown at the given page time, null if the stream had no value yet
+     */
+    public String valueAt(double time) {
+        int index = indexAt(time);
+        return index < 0 ? null : rawValues[index];
+    }
+
+    /**
+     * Numeric value shown at the given page time, NaN if none or not numeric
+     */
+    public double numericValueAt(double time) {
+        int index = indexAt(time);
+        return index < 0 ? Double.NaN : numericValues[index];
+    }
+
+    /**
+     * Latest recorded value, null if nothing was recorded
+     */
+    public String latestValue() {
+        return size == 0 ? null : rawValues[size - 1];
+    }
+
+    public String getStreamId() {
+        return streamId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double timeAt(int index) {
+        return times[index];
+    }
+
+    public String rawValueAt(int index) {
+        return rawValues[index];
+    }
+
+    public double numericValueAtIndex(int index) {
+        return numericValues[index];
+    }
+
+    /**
+     * Copy of all change timestamps
+     */
+    public double[] getTimes() {
+        return Arrays.copyOf(times, size);
+    }
+
+    /**
+     * Copy of all numeric values
+     */
+    public double[] getNumericValues() {
+        return Arrays.copyOf(numericValues, size);
+    }
+}
@@ -0,0 +1,296 @@
+package com.peliQAn.framework.utils;
+
+import io.qameta.allure.Step;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.Script;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v120.emulation.Emulation;
+import org.openqa.selenium.devtools.v120.page.Page;
+import org.openqa.selenium.devtools.v120.page.model.ScriptIdentifier;
+import org.openqa.selenium.json.Json;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Session-level date and timezone override.
+ * The override script is registered once and runs before page scripts in every new document:
+ * through Page.addScriptToEvaluateOnNewDocument on Chrome and Edge (with CDP timezone emulation),
+ * through a BiDi preload script on Firefox. Frames get it with their document, popups when they open.
+ * Without CDP or BiDi it only applies to the current document.
+ * A clock already installed by BrowserClock is updated in place, so a paused clock and its fake timers survive.
+ */
+@Slf4j
+public class TimeOverride {
+
+    private static final Map<WebDriver, TimeOverride> overrides =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private final Json json = new Json();
+    private final Map<String, CompletableFuture<ScriptIdentifier>> popupScripts = new ConcurrentHashMap<>();
+    private final Consumer<WindowRegistry.WindowInfo> popupListener = this::onWindowOpened;
+    private final Consumer<String> closeListener = popupScripts::remove;
+
+    /**
+     * Channel used to register the override for new documents
+     */
+    private enum Transport {
+        CDP,
+        BIDI,
+        NONE
+    }
+
+    // Read by the popup listener on the event thread
+    private volatile Long offsetMillis;
+    private volatile String timezoneId;
+    private volatile String mainHandle;
+    private volatile Transport transport;
+    private volatile CrossWindowExecutor crossWindow;
+    private DevTools devTools;
+    private boolean shimTimezoneSet;
+    private ScriptIdentifier cdpScriptId;
+    private String bidiScriptId;
+    private Script bidiScript;
+
+    private TimeOverride(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Get the override for a driver, inactive until a time or timezone is set
+     */
+    public static TimeOverride forDriver(WebDriver driver) {
+        synchronized (overrides) {
+            return overrides.computeIfAbsent(driver, TimeOverride::new);
+        }
+    }
+
+    /**
+     * Forget the override for a driver (called when the driver quits)
+     */
+    public static void release(WebDriver driver) {
+        overrides.remove(driver);
+    }
+
+    /**
+     * Make pages see the given time, advancing normally from there; null removes the time override.
+     * The offset is taken against the browser's clock, which on a remote grid may differ from ours.
+     */
+    @Step("Override browser time to {time} for the session")
+    public synchronized TimeOverride setTime(Instant time) {
+        offsetMillis = time == null ? null : time.toEpochMilli() - browserNow();
+        apply();
+        log.info("Browser time override set to {}", time);
+        return this;
+    }
+
+    /**
+     * Make pages run in the given timezone; null removes the timezone override
+     */
+    @Step("Override browser timezone to {zone} for the session")
+    public synchronized TimeOverride setTimezone(ZoneId zone) {
+        timezoneId = zone == null ? null : BrowserClock.toTimezoneId(zone);
+        apply();
+        log.info("Browser timezone override set to {}", timezoneId);
+        return this;
+    }
+
+    /**
+     * Remove the time and timezone override from the session and all open windows
+     */
+    @Step("Remove browser time override")
+    public synchronized void clear() {
+        offsetMillis = null;
+        timezoneId = null;
+        apply();
+        log.info("Removed browser time override");
+    }
+
+    /**
+     * Real time of the browser, ignoring an installed clock shim
+     */
+    private long browserNow() {
+        Object now = ((JavascriptExecutor) driver).executeScript(
+                "return window.__browserClock ? window.__browserClock.OriginalDate.now() : Date.now();");
+        return ((Number) now).longValue();
+    }
+
+    public boolean isActive() {
+        return offsetMillis != null || timezoneId != null;
+    }
+
+    /**
+     * Only CDP has Emulation.setTimezoneOverride; over BiDi the shim fakes the timezone
+     */
+    private boolean emulatesTimezone() {
+        return transport() == Transport.CDP;
+    }
+
+    private Transport transport() {
+        if (transport == null) {
+            // Firefox implements HasDevTools without a CDP endpoint, so ask before choosing CDP
+            Optional<DevTools> cdp = driver instanceof HasDevTools
+                    ? ((HasDevTools) driver).maybeGetDevTools()
+                    : Optional.empty();
+            if (cdp.isPresent()) {
+                devTools = cdp.get();
+                transport = Transport.CDP;
+            } else if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+                transport = Transport.BIDI;
+            } else {
+                transport = Transport.NONE;
+            }
+            log.debug("Time override uses {}", transport);
+        }
+        return transport;
+    }
+
+    /**
+     * Script run in every new document: installs the clock shim with the current settings
+     */
+    private String buildScript() {
+        StringBuilder script = new StringBuilder(BrowserClock.INSTALL_SCRIPT);
+        if (offsetMillis != null) {
+            script.append("clock.offset = ").append(offsetMillis).append(';');
+        }
+        if (timezoneId != null && !emulatesTimezone()) {
+            script.append("clock.setTimezone(").append(json.toJson(timezoneId)).append(");");
+        }
+        return script.toString();
+    }
+
+    private void apply() {
+        String script = buildScript();
+        boolean active = isActive();
+
+        switch (transport()) {
+            case CDP:
+                applyWithDevTools(script, active);
+                break;
+            case BIDI:
+                applyWithBiDi(script, active);
+                break;
+            default:
+                log.debug("Driver supports neither CDP nor BiDi, time override applies to the current document only");
+        }
+
+        // The current document was loaded before the new registration, update it directly
+        String update = currentDocumentScript(active);
+        shimTimezoneSet = timezoneId != null && !emulatesTimezone();
+        ((JavascriptExecutor) driver).executeScript(update);
+    }
+
+    /**
+     * Merge the settings into a document that may already run a clock: the offset only moves a running
+     * clock, a paused one keeps its time and timers. The shim is removed only if nothing else uses it.
+     */
+    private String currentDocumentScript(boolean active) {
+        StringBuilder script = new StringBuilder("if (").append(active).append(" || window.__browserClock) {");
+        script.append(BrowserClock.INSTALL_SCRIPT);
+        script.append("if (clock.frozenAt === null) { clock.offset = ")
+                .append(offsetMillis == null ? 0 : offsetMillis).append("; }");
+        if (timezoneId != null && !emulatesTimezone()) {
+            script.append("clock.setTimezone(").append(json.toJson(timezoneId)).append(");");
+        } else if (shimTimezoneSet) {
+            script.append("clock.setTimezone(null);");
+        }
+        if (!active) {
+            script.append("if (!clock.fake && clock.timezone === null && clock.offset === 0) { clock.uninstall(); }");
+        }
+        return script.append('}').toString();
+    }
+
+    private void applyWithDevTools(String script, boolean active) {
+        devTools.createSessionIfThereIsNotOne();
+        mainHandle = driver.getWindowHandle();
+        // Resolved here on the test thread; the popup listener must only send raw CDP commands
+        crossWindow = CrossWindowExecutor.forDriver(driver).orElse(null);
+        if (cdpScriptId != null) {
+            devTools.send(Page.removeScriptToEvaluateOnNewDocument(cdpScriptId));
+            cdpScriptId = null;
+        }
+        if (active) {
+            cdpScriptId = devTools.send(Page.addScriptToEvaluateOnNewDocument(script,
+                    Optional.empty(), Optional.empty(), Optional.empty()));
+        }
+        // An empty id clears the emulated timezone
+        devTools.send(Emulation.setTimezoneOverride(timezoneId == null ? "" : timezoneId));
+
+        Optional<WindowRegistry> registry = WindowRegistry.forDriver(driver);
+        registry.ifPresent(r -> {
+            r.removeWindowListener(popupListener);
+            r.removeWindowClosedListener(closeListener);
+        });
+        if (active) {
+            registry.ifPresent(r -> {
+                r.addWindowListener(popupListener);
+                // Closed windows are forgotten, so later updates are not sent to them
+                r.addWindowClosedListener(closeListener);
+            });
+        }
+        // Windows opened earlier got the previous settings
+        String update = currentDocumentScript(active);
+        for (String handle : popupScripts.keySet()) {
+            applyToWindow(handle, script, update, active);
+        }
+    }
+
+    private void applyWithBiDi(String script, boolean active) {
+        if (bidiScript == null) {
+            bidiScript = new Script(driver);
+        }
+        if (bidiScriptId != null) {
+            bidiScript.removePreloadScript(bidiScriptId);
+            bidiScriptId = null;
+        }
+        if (active) {
+            // Preload scripts run in every new browsing context, popups included
+            bidiScriptId = bidiScript.addPreloadScript("() => {" + script + "}");
+        }
+    }
+
+    // Runs on the CDP event thread: no WebDriver calls and no waiting, only CDP commands to the new target.
+    // Not synchronized: apply() waits for CDP replies that may be delivered on this thread.
+    private void onWindowOpened(WindowRegistry.WindowInfo window) {
+        if (!isActive() || window.getHandle().equals(mainHandle)) {
+            return;
+        }
+        applyToWindow(window.getHandle(), buildScript(), currentDocumentScript(true), true);
+    }
+
+    /**
+     * Register the override in another window over its own CDP session
+     */
+    private void applyToWindow(String handle, String script, String update, boolean active) {
+        CrossWindowExecutor executor = crossWindow;
+        if (executor == null) {
+            return;
+        }
+        CompletableFuture<ScriptIdentifier> previous = popupScripts.remove(handle);
+        if (previous != null) {
+            previous.thenAccept(id -> executor.sendToWindow(handle, Page.removeScriptToEvaluateOnNewDocument(id)));
+        }
+        if (active) {
+            popupScripts.put(handle, executor.sendToWindow(handle, Page.addScriptToEvaluateOnNewDocument(script,
+                    Optional.empty(), Optional.empty(), Optional.empty())));
+        }
+        executor.sendToWindow(handle, Emulation.setTimezoneOverride(timezoneId == null ? "" : timezoneId));
+        executor.executeAsync(handle, update)
+                .exceptionally(e -> {
+                    log.debug("Could not update time override in window {}: {}", handle, e.getMessage());
+                    return null;
+                });
+    }
+}
@@ -2,10 +2,11 @@ package com.peliQAn.framework.utils;
 
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
@@ -24,33 +25,7 @@ public class TimeUtils {
      */
     @Step("Set browser date and time to: {dateTime}")
     public static void setBrowserDateTime(WebDriver driver, LocalDateTime dateTime) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        
-        // Store original Date constructor
-        js.executeScript(
-            "if (!window.originalDate) {" +
-            "  window.originalDate = Date;" +
-            "}"
-        );
-        
-        // Calculate milliseconds since epoch
-        long timestamp = dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
-        
-        // Override JavaScript Date
-        String script = 
-            "const timestamp = " + timestamp + ";" +
-            "const customDate = new Date(timestamp);" +
-            "Date = class extends window.originalDate {" +
-            "  constructor() {" +
-            "    super();" +
-            "    return customDate;" +
-            "  }" +
-            "  static now() {" +
-            "    return timestamp;" +
-            "  }" +
-            "};";
-        
-        js.executeScript(script);
+        TimeOverride.forDriver(driver).setTime(dateTime.toInstant(ZoneOffset.UTC));
         log.info("Set browser date and time to: {}", dateTime);
     }
 
@@ -68,32 +43,43 @@ public class TimeUtils {
      */
     @Step("Set browser timezone offset to: {offsetMinutes} minutes")
     public static void setBrowserTimezoneOffset(WebDriver driver, int offsetMinutes) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        
-        // Store original method
-        js.executeScript(
-            "if (!window.originalGetTimezoneOffset) {" +
-            "  window.originalGetTimezoneOffset = Date.prototype.getTimezoneOffset;" +
-            "}" +
-            "Date.prototype.getTimezoneOffset = function() { return " + (-offsetMinutes) + "; };"
-        );
-        
+        setBrowserTimezone(driver, ZoneOffset.ofTotalSeconds(offsetMinutes * 60));
         log.info("Set browser timezone offset to: {} minutes", offsetMinutes);
     }
 
+    /**
+     * Set browser timezone
+     */
+    @Step("Set browser timezone to: {zone}")
+    public static void setBrowserTimezone(WebDriver driver, ZoneId zone) {
+        TimeOverride.forDriver(driver).setTimezone(zone);
+        log.info("Set browser timezone to: {}", zone);
+    }
+
+    /**
+     * Pause browser time, so page timers only run when time is advanced
+     */
+    @Step("Pause browser time")
+    public static void pauseBrowserTime(WebDriver driver) {
+        BrowserClock.forDriver(driver).pause();
+        log.info("Paused browser time");
+    }
+
+    /**
+     * Fast-forward browser time, running all page timers due in that period without waiting for it
+     */
+    @Step("Advance browser time by: {duration}")
+    public static void advanceBrowserTime(WebDriver driver, Duration duration) {
+        BrowserClock.forDriver(driver).advance(duration);
+        log.info("Advanced browser time by: {}", duration);
+    }
+
     /**
      * Reset browser date and time
      */
     @Step("Reset browser date and time")
     public static void resetBrowserDateTime(WebDriver driver) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        
-        js.executeScript(
-            "if (window.originalDate) {" +
-            "  Date = window.originalDate;" +
-            "}"
-        );
-        
+        TimeOverride.forDriver(driver).setTime(null);
         log.info("Reset browser date and time");
     }
 
@@ -102,14 +88,7 @@ public class TimeUtils {
      */
     @Step("Reset browser timezone offset")
     public static void resetBrowserTimezoneOffset(WebDriver driver) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        
-        js.executeScript(
-            "if (window.originalGetTimezoneOffset) {" +
-            "  Date.prototype.getTimezoneOffset = window.originalGetTimezoneOffset;" +
-            "}"
-        );
-        
+        TimeOverride.forDriver(driver).setTimezone(null);
         log.info("Reset browser timezone offset");
     }
 
@@ -118,8 +97,8 @@ public class TimeUtils {
      */
     @Step("Reset all time-related modifications")
     public static void resetAllTimeModifications(WebDriver driver) {
-        resetBrowserDateTime(driver);
-        resetBrowserTimezoneOffset(driver);
+        TimeOverride.forDriver(driver).clear();
+        BrowserClock.forDriver(driver).reset();
         log.info("Reset all time-related modifications");
     }
 
@@ -0,0 +1,343 @@
+package com.peliQAn.framework.utils;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.BrowsingContextInspector;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContextInfo;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v120.target.Target;
+import org.openqa.selenium.devtools.v120.target.model.TargetInfo;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Event-driven registry of open browser windows.
+ * Chrome and Edge feed it from CDP target events, Firefox from BiDi browsing context events,
+ * so window titles, URLs and openers can be read without switching focus.
+ * Selenium 4.16 reports no closed contexts over BiDi, so the Firefox registry drops closed
+ * windows on lookup by comparing with the driver's window handles.
+ */
+@Slf4j
+public class WindowRegistry {
+
+    private static final String PAGE_TARGET_TYPE = "page";
+    private static final Map<WebDriver, WindowRegistry> registries =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, WindowInfo> windows = new ConcurrentHashMap<>();
+    private final List<Waiter> waiters = new CopyOnWriteArrayList<>();
+    private final List<Consumer<WindowInfo>> windowListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<String>> closeListeners = new CopyOnWriteArrayList<>();
+    private final Transport transport;
+    // Only set for BiDi; weak, since the registries map is keyed by the driver
+    private final WeakReference<WebDriver> handleSource;
+
+    /**
+     * Event source feeding the registry
+     */
+    public enum Transport {
+        CDP,
+        BIDI
+    }
+
+    /**
+     * Snapshot of a single window as last reported by the browser
+     */
+    @Value
+    public static class WindowInfo {
+        String handle;
+        String title;
+        String url;
+        String openerHandle;
+    }
+
+    /**
+     * Pending wait for a window matching a condition
+     */
+    private static final class Waiter {
+        private final Predicate<WindowInfo> condition;
+        private final CompletableFuture<WindowInfo> future = new CompletableFuture<>();
+
+        private Waiter(Predicate<WindowInfo> condition) {
+            this.condition = condition;
+        }
+    }
+
+    private WindowRegistry(Transport transport, WebDriver handleSource) {
+        this.transport = transport;
+        this.handleSource = handleSource == null ? null : new WeakReference<>(handleSource);
+    }
+
+    /**
+     * Get the registry for a driver, starting it on first use.
+     * Returns empty when the browser exposes neither CDP nor BiDi.
+     */
+    public static Optional<WindowRegistry> forDriver(WebDriver driver) {
+        synchronized (registries) {
+            if (registries.containsKey(driver)) {
+                return Optional.ofNullable(registries.get(driver));
+            }
+            WindowRegistry registry = start(driver);
+            // Remember failed starts too, so we don't retry on every lookup
+            registries.put(driver, registry);
+            return Optional.ofNullable(registry);
+        }
+    }
+
+    /**
+     * Forget the registry for a driver (called when the driver quits)
+     */
+    public static void release(WebDriver driver) {
+        registries.remove(driver);
+    }
+
+    private static WindowRegistry start(WebDriver driver) {
+        try {
+            // Firefox implements HasDevTools but exposes no CDP endpoint, so ask for one before using it
+            Optional<DevTools> devTools = driver instanceof HasDevTools
+                    ? ((HasDevTools) driver).maybeGetDevTools()
+                    : Optional.empty();
+            if (devTools.isPresent()) {
+                return startWithDevTools(devTools.get());
+            }
+            if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+                return startWithBiDi(driver);
+            }
+        } catch (Exception e) {
+            log.warn("Could not start window registry, falling back to window switching: {}", e.getMessage());
+            return null;
+        }
+        log.debug("Driver supports neither CDP nor BiDi, window registry not available");
+        return null;
+    }
+
+    private static WindowRegistry startWithDevTools(DevTools devTools) {
+        WindowRegistry registry = new WindowRegistry(Transport.CDP, null);
+        devTools.createSessionIfThereIsNotOne();
+
+        devTools.addListener(Target.targetCreated(), registry::onTarget);
+        devTools.addListener(Target.targetInfoChanged(), registry::onTarget);
+        devTools.addListener(Target.targetDestroyed(), targetId -> registry.remove(targetId.toString()));
+
+        // Discovery replays targetCreated for every existing target, which seeds the registry
+        devTools.send(Target.setDiscoverTargets(true, Optional.empty()));
+
+        log.info("Started CDP window registry");
+        return registry;
+    }
+
+    private static WindowRegistry startWithBiDi(WebDriver driver) {
+        // BiDi has no title in its context events, so title lookups fall back to switching
+        WindowRegistry registry = new WindowRegistry(Transport.BIDI, driver);
+        BrowsingContextInspector inspector = new BrowsingContextInspector(driver);
+
+        inspector.onBrowsingContextCreated(registry::onBrowsingContext);
+        inspector.onBrowsingContextLoaded(navigation ->
+                registry.updateUrl(navigation.getBrowsingContextId(), navigation.getUrl()));
+
+        for (String handle : driver.getWindowHandles()) {
+            registry.upsert(new WindowInfo(handle, null, null, null));
+        }
+
+        log.info("Started BiDi window registry");
+        return registry;
+    }
+
+    private void onTarget(TargetInfo targetInfo) {
+        if (!PAGE_TARGET_TYPE.equals(targetInfo.getType())) {
+            return;
+        }
+        upsert(new WindowInfo(
+                targetInfo.getTargetId().toString(),
+                targetInfo.getTitle(),
+                targetInfo.getUrl(),
+                targetInfo.getOpenerId().map(Object::toString).orElse(null)));
+    }
+
+    private void onBrowsingContext(BrowsingContextInfo context) {
+        // Only top-level contexts are windows, nested ones are frames
+        if (context.getParentBrowsingContext() != null) {
+            return;
+        }
+        upsert(new WindowInfo(context.getId(), null, context.getUrl(), null));
+    }
+
+    private void updateUrl(String handle, String url) {
+        WindowInfo existing = windows.get(handle);
+        if (existing != null) {
+            upsert(new WindowInfo(handle, existing.getTitle(), url, existing.getOpenerHandle()));
+        }
+    }
+
+    private void upsert(WindowInfo info) {
+        WindowInfo previous = windows.put(info.getHandle(), info);
+        if (previous == null) {
+            windowListeners.forEach(listener -> listener.accept(info));
+        }
+        for (Waiter waiter : waiters) {
+            if (waiter.condition.test(info)) {
+                waiter.future.complete(info);
+            }
+        }
+    }
+
+    private void remove(String handle) {
+        if (windows.remove(handle) != null) {
+            closeListeners.forEach(listener -> listener.accept(handle));
+        }
+    }
+
+    /**
+     * Forget windows the driver no longer has; only needed without close events (BiDi).
+     * Uses the WebDriver, so it runs on lookups from the test thread, never from listeners.
+     */
+    private void pruneClosed() {
+        WebDriver driver = handleSource == null ? null : handleSource.get();
+        if (driver == null) {
+            return;
+        }
+        try {
+            Set<String> open = driver.getWindowHandles();
+            for (String handle : new ArrayList<>(windows.keySet())) {
+                if (!open.contains(handle)) {
+                    remove(handle);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Could not read window handles to prune closed windows: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Call the listener for every window that opens from now on.
+     * Listeners run on the event thread and must not use the WebDriver.
+     */
+    public void addWindowListener(Consumer<WindowInfo> listener) {
+        windowListeners.add(listener);
+    }
+
+    public void removeWindowListener(Consumer<WindowInfo> listener) {
+        windowListeners.remove(listener);
+    }
+
+    /**
+     * Call the listener with the handle of every window that is reported closed.
+     * Same rule as for open listeners: no WebDriver calls.
+     */
+    public void addWindowClosedListener(Consumer<String> listener) {
+        closeListeners.add(listener);
+    }
+
+    public void removeWindowClosedListener(Consumer<String> listener) {
+        closeListeners.remove(listener);
+    }
+
+    /**
+     * Whether titles are reported by the event source (false for BiDi)
+     */
+    public boolean tracksTitles() {
+        return transport == Transport.CDP;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Get all known windows
+     */
+    public Collection<WindowInfo> getWindows() {
+        pruneClosed();
+        return new ArrayList<>(windows.values());
+    }
+
+    /**
+     * Get window info by handle
+     */
+    public Optional<WindowInfo> getWindow(String handle) {
+        pruneClosed();
+        return Optional.ofNullable(windows.get(handle));
+    }
+
+    /**
+     * Find first window whose title contains the text
+     */
+    public Optional<WindowInfo> findByTitle(String titlePart) {
+        pruneClosed();
+        return windows.values().stream()
+                .filter(info -> info.getTitle() != null && info.getTitle().contains(titlePart))
+                .findFirst();
+    }
+
+    /**
+     * Find first window whose URL contains the text
+     */
+    public Optional<WindowInfo> findByUrl(String urlPart) {
+        pruneClosed();
+        return windows.values().stream()
+                .filter(info -> info.getUrl() != null && info.getUrl().contains(urlPart))
+                .findFirst();
+    }
+
+    /**
+     * Find windows opened by the given window
+     */
+    public List<WindowInfo> findOpenedBy(String openerHandle) {
+        pruneClosed();
+        List<WindowInfo> opened = new ArrayList<>();
+        for (WindowInfo info : windows.values()) {
+            if (openerHandle.equals(info.getOpenerHandle())) {
+                opened.add(info);
+            }
+        }
+        return opened;
+    }
+
+    /**
+     * Wait until a window matching the condition is known, completing as soon as its event arrives
+     */
+    public WindowInfo awaitWindow(Predicate<WindowInfo> condition, Duration timeout) {
+        pruneClosed();
+        Waiter waiter = new Waiter(condition);
+        waiters.add(waiter);
+        try {
+            // Check after registering so an event arriving in between is not lost
+            windows.values().stream().filter(condition).findFirst().ifPresent(waiter.future::complete);
+            return waiter.future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for window", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new org.openqa.selenium.TimeoutException("No matching window appeared within " + timeout, e);
+        } finally {
+            waiters.remove(waiter);
+        }
+    }
+
+    /**
+     * Wait for a window whose handle is not in the given set
+     */
+    public String awaitNewWindow(Set<String> knownHandles, Duration timeout) {
+        return awaitWindow(info -> !knownHandles.contains(info.getHandle()), timeout).getHandle();
+    }
+}
@@ -0,0 +1,87 @@
+package com.peliQAn.framework.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peliQAn.framework.api.ApiJson;
+import com.peliQAn.framework.api.model.Treasure;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a treasure list response: the former String round trip through a client-local mapper
+ * against streaming through the shared ApiJson readers, into maps and into typed treasures.
+ * Needs no running application; start it from the IDE or via the main method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonParsingBenchmark {
+
+    @Param({"10", "1000"})
+    int treasures;
+
+    private final ObjectMapper clientMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        List<Treasure> list = new ArrayList<>(treasures);
+        for (int i = 0; i < treasures; i++) {
+            list.add(new Treasure((long) i, "Treasure " + i, 100 + i, "Benchmark treasure number " + i,
+                    "Island " + (i % 17), i % 2 == 0));
+        }
+        body = ApiJson.write(list);
+    }
+
+    private Response response() {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> stringToMaps() throws Exception {
+        return clientMapper.readValue(response().getBody().asString(),
+                new TypeReference<List<Map<String, Object>>>() {});
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> streamToMaps() {
+        return ApiJson.readMapList(response());
+    }
+
+    @Benchmark
+    public List<Treasure> streamToTreasures() {
+        return ApiJson.readList(response(), Treasure.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
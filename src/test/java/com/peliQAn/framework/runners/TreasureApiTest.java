@@ -1,6 +1,6 @@
 package com.peliQAn.framework.runners;
 
-import com.peliQAn.framework.api.AuthApiClient;
+import com.peliQAn.framework.api.AuthTokenCache;
 import com.peliQAn.framework.api.TreasureApiClient;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
@@ -8,8 +8,10 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.testng.Assert.*;
 
@@ -21,22 +23,16 @@ import static org.testng.Assert.*;
 public class TreasureApiTest {
 
     private TreasureApiClient treasureApiClient;
-    private AuthApiClient authApiClient;
-    private String authToken;
     private Map<String, Object> createdTreasure;
 
     @BeforeClass
     public void setup() {
         treasureApiClient = new TreasureApiClient();
-        authApiClient = new AuthApiClient();
         
-        // Register and login to get auth token
-        String username = "testuser_" + System.currentTimeMillis();
-        String email = "testuser_" + System.currentTimeMillis() + "@example.com";
-        String password = "Password123";
-        
-        authToken = authApiClient.registerAndLogin(username, email, password);
-        treasureApiClient.setAuthToken(authToken);
+        // Shared user, registered once per process; the client reads its token from the cache
+        treasureApiClient.useCachedToken(AuthTokenCache.getInstance().getSharedUsername());
+        // Repeated GETs are revalidated instead of re-downloaded; writes invalidate them
+        treasureApiClient.enableHttpCache();
     }
 
     /**
@@ -114,21 +110,19 @@ public class TreasureApiTest {
         assertNotNull(treasure2, "Treasure 2 should be created");
         assertNotNull(treasure3, "Treasure 3 should be created");
         
-        // Get all treasures and verify count
-        List<Map<String, Object>> allTreasures = treasureApiClient.getAllTreasuresAsList();
-        assertNotNull(allTreasures, "Should retrieve all treasures");
-        
-        // Check if our treasures are in the list
-        boolean foundTreasure1 = allTreasures.stream()
-                .anyMatch(t -> t.get("name").equals("Diamond Crown"));
-        boolean foundTreasure2 = allTreasures.stream()
-                .anyMatch(t -> t.get("name").equals("Ruby Necklace"));
-        boolean foundTreasure3 = allTreasures.stream()
-                .anyMatch(t -> t.get("name").equals("Emerald Ring"));
-        
-        assertTrue(foundTreasure1, "Should find Treasure 1 in the list");
-        assertTrue(foundTreasure2, "Should find Treasure 2 in the list");
-        assertTrue(foundTreasure3, "Should find Treasure 3 in the list");
+        // One streamed pass over all treasures, one in memory at a time, feeds every list check
+        Set<String> missing = new HashSet<>(List.of("Diamond Crown", "Ruby Necklace", "Emerald Ring"));
+        Set<Long> ids = new HashSet<>();
+        Set<Long> duplicateIds = new HashSet<>();
+        long count = treasureApiClient.streamAllTreasures().forEach(t -> {
+            missing.remove(t.getName());
+            if (!ids.add(t.getId())) {
+                duplicateIds.add(t.getId());
+            }
+        });
+        assertTrue(missing.isEmpty(), "Should find all created treasures in the list, missing: " + missing);
+        assertTrue(duplicateIds.isEmpty(), "Treasure ids should be unique, duplicated: " + duplicateIds);
+        assertTrue(count >= 3, "Should list at least the created treasures");
         
         // Search for treasures by name
         Response searchResponse = treasureApiClient.searchTreasuresByName("Diamond");
@@ -1,7 +1,7 @@
 package com.peliQAn.framework.stepdefinitions;
 
 import com.github.javafaker.Faker;
-import com.peliQAn.framework.api.AuthApiClient;
+import com.peliQAn.framework.api.AuthTokenCache;
 import com.peliQAn.framework.api.TreasureApiClient;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
@@ -28,7 +28,6 @@ import static org.wiremock.client.WireMock.*;
 public class AdvancedApiSteps {
 
     private TreasureApiClient treasureApiClient;
-    private AuthApiClient authApiClient;
     private String authToken;
     private Response lastResponse;
     private Map<String, Object> lastCreatedTreasure;
@@ -44,7 +43,6 @@ public class AdvancedApiSteps {
     @Before
     public void setup() {
         treasureApiClient = new TreasureApiClient();
-        authApiClient = new AuthApiClient();
     }
 
     @After
@@ -61,14 +59,11 @@ public class AdvancedApiSteps {
 
     @And("I am authenticated with valid credentials")
     public void iAmAuthenticatedWithValidCredentials() {
-        // Register and login a test user
-        String username = "testuser_" + System.currentTimeMillis();
-        String email = username + "@example.com";
-        String password = "Password123";
-        
-        authToken = authApiClient.registerAndLogin(username, email, password);
+        // Shared user, registered once per process
+        String username = AuthTokenCache.getInstance().getSharedUsername();
+        authToken = AuthTokenCache.getInstance().getToken(username);
         Assert.assertNotNull(authToken, "Authentication token should not be null");
-        treasureApiClient.setAuthToken(authToken);
+        treasureApiClient.useCachedToken(username);
     }
 
     @When("I create a new treasure with valid data")
@@ -1,9 +1,11 @@
 package com.peliQAn.framework.stepdefinitions;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.peliQAn.framework.api.AuthApiClient;
+import com.peliQAn.framework.api.ApiJson;
+import com.peliQAn.framework.api.AuthTokenCache;
 import com.peliQAn.framework.api.TreasureApiClient;
+import com.peliQAn.framework.api.TreasureFixturePool;
+import com.peliQAn.framework.api.model.Treasure;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
@@ -13,6 +15,7 @@ import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.testng.Assert;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,25 +27,24 @@ import java.util.Map;
 public class ApiTreasureSteps {
 
     private final TreasureApiClient treasureApiClient = new TreasureApiClient();
-    private final AuthApiClient authApiClient = new AuthApiClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TreasureFixturePool fixturePool = TreasureFixturePool.getInstance();
     
     private Response response;
+    private Treasure responseTreasure;
+    private List<Treasure> responseTreasures;
     private String authToken;
     private Map<String, Object> createdTreasure;
     private long createdTreasureId;
 
     @Given("I am registered and logged in as a user")
     public void iAmRegisteredAndLoggedInAsAUser() {
-        String username = "testuser_" + System.currentTimeMillis();
-        String email = "testuser_" + System.currentTimeMillis() + "@example.com";
-        String password = "Password123";
-        
-        authToken = authApiClient.registerAndLogin(username, email, password);
-        treasureApiClient.setAuthToken(authToken);
+        // The shared user is registered once per process; the cache keeps its token fresh
+        String username = AuthTokenCache.getInstance().getSharedUsername();
+        authToken = AuthTokenCache.getInstance().getToken(username);
+        treasureApiClient.useCachedToken(username);
         
         Assert.assertNotNull(authToken, "Auth token should not be null");
-        log.info("User registered and logged in with token: {}", authToken);
+        log.info("Logged in as shared user {}", username);
     }
 
     @Given("there is a treasure with the following details:")
@@ -56,17 +58,43 @@ public class ApiTreasureSteps {
         treasureMap.put("location", treasureData.get("location"));
         treasureMap.put("discovered", Boolean.parseBoolean(treasureData.get("discovered")));
         
-        response = treasureApiClient.createTreasure(treasureMap);
+        receiveTreasure(treasureApiClient.createTreasure(treasureMap));
         Assert.assertEquals(response.getStatusCode(), 201, "Create treasure should return 201");
         
-        createdTreasure = response.as(Map.class);
-        createdTreasureId = Long.parseLong(createdTreasure.get("id").toString());
+        rememberCreatedTreasure(treasure());
         
         log.info("Created treasure with ID: {}", createdTreasureId);
     }
 
+    @Given("there is a shared treasure with the following details:")
+    public void thereIsASharedTreasureWithTheFollowingDetails(DataTable dataTable) {
+        Map<String, String> treasureData = dataTable.asMap(String.class, String.class);
+        
+        Map<String, Object> treasureMap = new HashMap<>();
+        treasureMap.put("name", treasureData.get("name"));
+        treasureMap.put("value", Integer.parseInt(treasureData.get("value")));
+        treasureMap.put("description", treasureData.get("description"));
+        treasureMap.put("location", treasureData.get("location"));
+        treasureMap.put("discovered", Boolean.parseBoolean(treasureData.get("discovered")));
+        
+        useFixture(fixturePool.readOnly(treasureMap));
+    }
+
+    @Given("there is a read-only treasure fixture")
+    public void thereIsAReadOnlyTreasureFixture() {
+        useFixture(fixturePool.leaseReadOnly());
+    }
+
+    @Given("there is a mutable treasure fixture")
+    public void thereIsAMutableTreasureFixture() {
+        // Only the owner of the pool may change its fixtures
+        treasureApiClient.useCachedToken(fixturePool.getOwner());
+        useFixture(fixturePool.takeMutable());
+    }
+
     @Given("there are treasures with names:")
     public void thereAreTreasuresWithNames(List<String> names) {
+        List<Map<String, Object>> treasures = new ArrayList<>();
         for (String name : names) {
             Map<String, Object> treasureMap = new HashMap<>();
             treasureMap.put("name", name);
@@ -74,20 +102,21 @@ public class ApiTreasureSteps {
             treasureMap.put("description", "Test treasure: " + name);
             treasureMap.put("location", "Test Island");
             treasureMap.put("discovered", false);
-            
-            response = treasureApiClient.createTreasure(treasureMap);
-            Assert.assertEquals(response.getStatusCode(), 201, "Create treasure should return 201");
+            treasures.add(treasureMap);
         }
-        log.info("Created {} treasures with specified names", names.size());
+        
+        fixturePool.readOnly(treasures);
+        log.info("Leased {} treasure fixtures with specified names", names.size());
     }
 
     @Given("there are treasures with discovered status:")
     public void thereAreTreasuresWithDiscoveredStatus(DataTable dataTable) {
-        List<Map<String, String>> treasures = dataTable.asMaps();
+        List<List<String>> rows = dataTable.asLists();
+        List<Map<String, Object>> treasures = new ArrayList<>();
         
-        for (Map<String, String> treasure : treasures) {
-            String name = treasure.get(0);
-            boolean discovered = Boolean.parseBoolean(treasure.get(1));
+        for (List<String> row : rows) {
+            String name = row.get(0);
+            boolean discovered = Boolean.parseBoolean(row.get(1));
             
             Map<String, Object> treasureMap = new HashMap<>();
             treasureMap.put("name", name);
@@ -95,17 +124,58 @@ public class ApiTreasureSteps {
             treasureMap.put("description", "Test treasure: " + name);
             treasureMap.put("location", "Test Island");
             treasureMap.put("discovered", discovered);
-            
-            response = treasureApiClient.createTreasure(treasureMap);
-            Assert.assertEquals(response.getStatusCode(), 201, "Create treasure should return 201");
+            treasures.add(treasureMap);
         }
-        log.info("Created treasures with specified discovered status");
+        
+        fixturePool.readOnly(treasures);
+        log.info("Leased treasure fixtures with specified discovered status");
+    }
+
+    /**
+     * Keep a single-treasure response, parsed once here; the steps assert on the parsed treasure
+     * and never read the body again
+     */
+    private void receiveTreasure(Response treasureResponse) {
+        response = treasureResponse;
+        responseTreasure = treasureResponse.getStatusCode() < 300
+                ? ApiJson.read(treasureResponse, Treasure.class)
+                : null;
+        responseTreasures = null;
+    }
+
+    private void receiveTreasures(Response treasuresResponse) {
+        response = treasuresResponse;
+        responseTreasure = null;
+        responseTreasures = treasuresResponse.getStatusCode() < 300
+                ? ApiJson.readList(treasuresResponse, Treasure.class)
+                : null;
+    }
+
+    private Treasure treasure() {
+        Assert.assertNotNull(responseTreasure, "Response should contain a treasure");
+        return responseTreasure;
+    }
+
+    private List<Treasure> treasures() {
+        Assert.assertNotNull(responseTreasures, "Response should be a list");
+        return responseTreasures;
+    }
+
+    private void rememberCreatedTreasure(Treasure treasure) {
+        createdTreasure = ApiJson.mapper().convertValue(treasure, new TypeReference<Map<String, Object>>() {});
+        createdTreasureId = treasure.getId();
+    }
+
+    private void useFixture(TreasureFixturePool.Fixture fixture) {
+        createdTreasure = new HashMap<>(fixture.getData());
+        createdTreasureId = fixture.getId();
+        log.info("Using treasure fixture with ID: {}", createdTreasureId);
     }
 
     @When("I send a GET request to {string}")
     public void iSendAGETRequestTo(String endpoint) {
         endpoint = endpoint.startsWith("/") ? endpoint : "/" + endpoint;
-        response = treasureApiClient.getAllTreasures();
+        receiveTreasures(treasureApiClient.getAllTreasures());
         log.info("Sent GET request to {}", endpoint);
     }
 
@@ -114,7 +184,7 @@ public class ApiTreasureSteps {
         endpoint = endpoint.replace("{id}", String.valueOf(createdTreasureId));
         endpoint = endpoint.startsWith("/") ? endpoint : "/" + endpoint;
         
-        response = treasureApiClient.getTreasureById(createdTreasureId);
+        receiveTreasure(treasureApiClient.getTreasureById(createdTreasureId));
         log.info("Sent GET request to {} with treasure ID: {}", endpoint, createdTreasureId);
     }
 
@@ -123,8 +193,8 @@ public class ApiTreasureSteps {
         endpoint = endpoint.startsWith("/") ? endpoint : "/" + endpoint;
         
         try {
-            Map<String, Object> requestBody = objectMapper.readValue(body, new TypeReference<>() {});
-            response = treasureApiClient.createTreasure(requestBody);
+            Map<String, Object> requestBody = ApiJson.mapper().readValue(body, new TypeReference<>() {});
+            receiveTreasure(treasureApiClient.createTreasure(requestBody));
             log.info("Sent POST request to {} with body: {}", endpoint, body);
         } catch (Exception e) {
             log.error("Error parsing request body", e);
@@ -138,8 +208,8 @@ public class ApiTreasureSteps {
         endpoint = endpoint.startsWith("/") ? endpoint : "/" + endpoint;
         
         try {
-            Map<String, Object> requestBody = objectMapper.readValue(body, new TypeReference<>() {});
-            response = treasureApiClient.updateTreasure(createdTreasureId, requestBody);
+            Map<String, Object> requestBody = ApiJson.mapper().readValue(body, new TypeReference<>() {});
+            receiveTreasure(treasureApiClient.updateTreasure(createdTreasureId, requestBody));
             log.info("Sent PUT request to {} with treasure ID: {} and body: {}", 
                     endpoint, createdTreasureId, body);
         } catch (Exception e) {
@@ -153,6 +223,8 @@ public class ApiTreasureSteps {
         endpoint = endpoint.replace("{id}", String.valueOf(createdTreasureId));
         endpoint = endpoint.startsWith("/") ? endpoint : "/" + endpoint;
         
+        responseTreasure = null;
+        responseTreasures = null;
         response = treasureApiClient.deleteTreasure(createdTreasureId);
         log.info("Sent DELETE request to {} with treasure ID: {}", endpoint, createdTreasureId);
     }
@@ -162,12 +234,12 @@ public class ApiTreasureSteps {
         endpoint = endpoint.startsWith("/") ? endpoint : "/" + endpoint;
         
         if (paramName.equals("name")) {
-            response = treasureApiClient.searchTreasuresByName(paramValue);
+            receiveTreasures(treasureApiClient.searchTreasuresByName(paramValue));
         } else if (paramName.equals("discovered")) {
             if (paramValue.equals("true")) {
-                response = treasureApiClient.getDiscoveredTreasures();
+                receiveTreasures(treasureApiClient.getDiscoveredTreasures());
             } else {
-                response = treasureApiClient.getUndiscoveredTreasures();
+                receiveTreasures(treasureApiClient.getUndiscoveredTreasures());
             }
         } else {
             throw new IllegalArgumentException("Unsupported parameter: " + paramName);
@@ -185,23 +257,20 @@ public class ApiTreasureSteps {
 
     @And("the response should be a list of treasures")
     public void theResponseShouldBeAListOfTreasures() {
-        List<Map<String, Object>> treasures = response.jsonPath().getList("");
-        Assert.assertNotNull(treasures, "Response should be a list");
+        List<Treasure> treasures = treasures();
         Assert.assertFalse(treasures.isEmpty(), "Treasure list should not be empty");
         log.info("Response contains {} treasures", treasures.size());
     }
 
     @And("each treasure should have id, name, value, description, location and discovered fields")
     public void eachTreasureShouldHaveIdNameValueDescriptionLocationAndDiscoveredFields() {
-        List<Map<String, Object>> treasures = response.jsonPath().getList("");
-        
-        for (Map<String, Object> treasure : treasures) {
-            Assert.assertTrue(treasure.containsKey("id"), "Treasure should have id field");
-            Assert.assertTrue(treasure.containsKey("name"), "Treasure should have name field");
-            Assert.assertTrue(treasure.containsKey("value"), "Treasure should have value field");
-            Assert.assertTrue(treasure.containsKey("description"), "Treasure should have description field");
-            Assert.assertTrue(treasure.containsKey("location"), "Treasure should have location field");
-            Assert.assertTrue(treasure.containsKey("discovered"), "Treasure should have discovered field");
+        for (Treasure treasure : treasures()) {
+            Assert.assertNotNull(treasure.getId(), "Treasure should have id field");
+            Assert.assertNotNull(treasure.getName(), "Treasure should have name field");
+            Assert.assertNotNull(treasure.getValue(), "Treasure should have value field");
+            Assert.assertNotNull(treasure.getDescription(), "Treasure should have description field");
+            Assert.assertNotNull(treasure.getLocation(), "Treasure should have location field");
+            Assert.assertNotNull(treasure.getDiscovered(), "Treasure should have discovered field");
         }
         
         log.info("All treasures have required fields");
@@ -209,13 +278,12 @@ public class ApiTreasureSteps {
 
     @And("the response should contain the treasure details")
     public void theResponseShouldContainTheTreasureDetails() {
-        Map<String, Object> treasure = response.as(Map.class);
+        Treasure treasure = treasure();
         
-        Assert.assertEquals(treasure.get("id").toString(), String.valueOf(createdTreasureId), 
-                "Treasure ID should match");
-        Assert.assertEquals(treasure.get("name"), createdTreasure.get("name"), 
+        Assert.assertEquals(treasure.getId(), Long.valueOf(createdTreasureId), "Treasure ID should match");
+        Assert.assertEquals(treasure.getName(), createdTreasure.get("name"), 
                 "Treasure name should match");
-        Assert.assertEquals(treasure.get("description"), createdTreasure.get("description"), 
+        Assert.assertEquals(treasure.getDescription(), createdTreasure.get("description"), 
                 "Treasure description should match");
         
         log.info("Response contains correct treasure details");
@@ -223,64 +291,50 @@ public class ApiTreasureSteps {
 
     @And("the response should contain the created treasure with an id")
     public void theResponseShouldContainTheCreatedTreasureWithAnId() {
-        Map<String, Object> treasure = response.as(Map.class);
+        Treasure treasure = treasure();
         
-        Assert.assertTrue(treasure.containsKey("id"), "Created treasure should have id field");
-        createdTreasureId = Long.parseLong(treasure.get("id").toString());
-        createdTreasure = treasure;
+        Assert.assertNotNull(treasure.getId(), "Created treasure should have id field");
+        rememberCreatedTreasure(treasure);
         
         log.info("Response contains created treasure with ID: {}", createdTreasureId);
     }
 
     @And("the created treasure should have name {string}")
     public void theCreatedTreasureShouldHaveName(String name) {
-        Map<String, Object> treasure = response.as(Map.class);
-        Assert.assertEquals(treasure.get("name"), name, "Created treasure should have name: " + name);
+        Treasure treasure = treasure();
+        Assert.assertEquals(treasure.getName(), name, "Created treasure should have name: " + name);
         log.info("Created treasure has name: {}", name);
     }
 
     @And("the response should contain the updated treasure")
     public void theResponseShouldContainTheUpdatedTreasure() {
-        Map<String, Object> treasure = response.as(Map.class);
+        Treasure treasure = treasure();
         
-        Assert.assertEquals(treasure.get("id").toString(), String.valueOf(createdTreasureId), 
-                "Updated treasure ID should match");
+        Assert.assertEquals(treasure.getId(), Long.valueOf(createdTreasureId), "Updated treasure ID should match");
         
         log.info("Response contains updated treasure");
     }
 
     @And("the updated treasure should have value {int}")
     public void theUpdatedTreasureShouldHaveValue(int value) {
-        Map<String, Object> treasure = response.as(Map.class);
+        Treasure treasure = treasure();
         
-        // Handle different number types in JSON deserialization
-        int treasureValue;
-        if (treasure.get("value") instanceof Integer) {
-            treasureValue = (Integer) treasure.get("value");
-        } else if (treasure.get("value") instanceof Long) {
-            treasureValue = ((Long) treasure.get("value")).intValue();
-        } else {
-            treasureValue = Integer.parseInt(treasure.get("value").toString());
-        }
-        
-        Assert.assertEquals(treasureValue, value, "Updated treasure should have value: " + value);
+        Assert.assertEquals(treasure.getValue(), Integer.valueOf(value), "Updated treasure should have value: " + value);
         log.info("Updated treasure has value: {}", value);
     }
 
     @And("the updated treasure should have discovered {boolean}")
     public void theUpdatedTreasureShouldHaveDiscovered(boolean discovered) {
-        Map<String, Object> treasure = response.as(Map.class);
-        Assert.assertEquals(treasure.get("discovered"), discovered, 
+        Treasure treasure = treasure();
+        Assert.assertEquals(treasure.getDiscovered(), Boolean.valueOf(discovered), 
                 "Updated treasure should have discovered: " + discovered);
         log.info("Updated treasure has discovered: {}", discovered);
     }
 
     @And("all treasure names should contain {string}")
     public void allTreasureNamesShouldContain(String substring) {
-        List<Map<String, Object>> treasures = response.jsonPath().getList("");
-        
-        for (Map<String, Object> treasure : treasures) {
-            String name = treasure.get("name").toString();
+        for (Treasure treasure : treasures()) {
+            String name = treasure.getName();
             Assert.assertTrue(name.contains(substring), 
                     "Treasure name should contain: " + substring + ", but was: " + name);
         }
@@ -290,10 +344,8 @@ public class ApiTreasureSteps {
 
     @And("the treasure list should not contain treasures with name containing {string}")
     public void theTreasureListShouldNotContainTreasuresWithNameContaining(String substring) {
-        List<Map<String, Object>> treasures = response.jsonPath().getList("");
-        
-        for (Map<String, Object> treasure : treasures) {
-            String name = treasure.get("name").toString();
+        for (Treasure treasure : treasures()) {
+            String name = treasure.getName();
             Assert.assertFalse(name.contains(substring), 
                     "Treasure name should not contain: " + substring + ", but was: " + name);
         }
@@ -303,10 +355,8 @@ public class ApiTreasureSteps {
 
     @And("all treasures should have discovered status {boolean}")
     public void allTreasuresShouldHaveDiscoveredStatus(boolean discovered) {
-        List<Map<String, Object>> treasures = response.jsonPath().getList("");
-        
-        for (Map<String, Object> treasure : treasures) {
-            Assert.assertEquals(treasure.get("discovered"), discovered, 
+        for (Treasure treasure : treasures()) {
+            Assert.assertEquals(treasure.getDiscovered(), Boolean.valueOf(discovered), 
                     "Treasure should have discovered: " + discovered);
         }
         
@@ -58,11 +58,10 @@ public class CanvasMapSteps {
 
     @Then("the validation should be successful")
     public void theValidationShouldBeSuccessful() {
-        boolean isSuccessful = canvasMapPage.isValidationSuccessful();
-        Assert.assertTrue(isSuccessful, "Solution validation should be successful");
-        
-        String message = canvasMapPage.getValidationResultMessage();
-        Assert.assertTrue(message.contains("successfully"), "Message should indicate success");
+        canvasMapPage.softAssertions()
+                .isVisible(".challenge-success")
+                .containsText(".challenge-success", "successfully")
+                .assertAll();
     }
     
     @And("I explore the map visually to find interesting points")
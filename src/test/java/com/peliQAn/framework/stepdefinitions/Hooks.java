@@ -1,9 +1,13 @@
 package com.peliQAn.framework.stepdefinitions;
 
+import com.peliQAn.framework.api.HttpCacheFilter;
+import com.peliQAn.framework.api.HttpEngine;
+import com.peliQAn.framework.api.TreasureFixturePool;
 import com.peliQAn.framework.config.PropertyManager;
 import com.peliQAn.framework.core.DriverFactory;
 import com.peliQAn.framework.utils.ScreenshotUtils;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
@@ -34,7 +38,8 @@ public class Hooks {
     @Before(value = "@api", order = 1)
     public void setupAPI() {
         log.info("Setting up API test");
-        // Any setup specific to API tests
+        // Fixtures are provisioned once, by the first API scenario of the run
+        TreasureFixturePool.getInstance().start();
     }
     
     /**
@@ -78,6 +83,23 @@ public class Hooks {
     @After(value = "@api")
     public void tearDownAPI() {
         log.info("Tearing down API test");
-        // Any teardown specific to API tests
+        log.debug("HTTP connection pool: {}", HttpEngine.stats());
+    }
+
+    /**
+     * Log connection pool and HTTP cache usage after the feature run; the pool stays open for other suites in the JVM
+     */
+    @AfterAll
+    public static void logHttpEngineStats() {
+        log.info("HTTP connection pool after feature run: {}", HttpEngine.stats());
+        log.info("HTTP cache after feature run: {}", HttpCacheFilter.totalStats());
+    }
+
+    /**
+     * Delete the treasure fixtures created during the feature run
+     */
+    @AfterAll
+    public static void cleanUpTreasureFixtures() {
+        TreasureFixturePool.getInstance().cleanup();
     }
 }
\ No newline at end of file
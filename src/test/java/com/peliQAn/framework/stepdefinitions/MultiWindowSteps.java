@@ -1,6 +1,9 @@
 package com.peliQAn.framework.stepdefinitions;
 
+import com.peliQAn.framework.config.PropertyManager;
+import com.peliQAn.framework.core.DriverFactory;
 import com.peliQAn.framework.pages.hardcore.MultiWindowChallengePage;
+import com.peliQAn.framework.utils.WindowRegistry;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -8,6 +11,8 @@ import io.cucumber.java.en.When;
 import lombok.extern.slf4j.Slf4j;
 import org.testng.Assert;
 
+import java.util.Optional;
+
 /**
  * Step definitions for Multi-Window Treasure Hunt Challenge
  */
@@ -29,6 +34,25 @@ public class MultiWindowSteps {
         multiWindowPage.startChallenge();
     }
 
+    @And("the window registry should use the browser's event transport")
+    public void theWindowRegistryShouldUseTheBrowsersEventTransport() {
+        String browser = PropertyManager.getInstance().getProperty("browser", "chrome").toLowerCase();
+        Optional<WindowRegistry> registry = WindowRegistry.forDriver(DriverFactory.getDriver());
+        if (browser.equals("safari")) {
+            // Safari exposes neither CDP nor BiDi, window lookups fall back to switching
+            Assert.assertFalse(registry.isPresent(), "Safari should not get a window registry");
+            return;
+        }
+        Assert.assertTrue(registry.isPresent(), "Window registry should be available for " + browser);
+
+        // Firefox has no CDP endpoint and must be fed from BiDi browsing context events
+        WindowRegistry.Transport expected = browser.equals("firefox")
+                ? WindowRegistry.Transport.BIDI
+                : WindowRegistry.Transport.CDP;
+        log.info("Window registry for {} uses {}", browser, registry.get().getTransport());
+        Assert.assertEquals(registry.get().getTransport(), expected, "Window registry transport for " + browser);
+    }
+
     @And("I navigate through all treasure windows collecting clues")
     public void iNavigateThroughAllTreasureWindowsCollectingClues() {
         multiWindowPage.navigateThroughAllWindows();
@@ -52,11 +76,10 @@ public class MultiWindowSteps {
 
     @Then("the validation should be successful")
     public void theValidationShouldBeSuccessful() {
-        boolean isSuccessful = multiWindowPage.isValidationSuccessful();
-        Assert.assertTrue(isSuccessful, "Solution validation should be successful");
-        
-        String message = multiWindowPage.getValidationResultMessage();
-        Assert.assertTrue(message.contains("successfully"), "Message should indicate success");
+        multiWindowPage.softAssertions()
+                .isVisible(".challenge-success")
+                .containsText(".challenge-success", "successfully")
+                .assertAll();
     }
     
     @When("I complete all multi-window challenge steps")
@@ -1,6 +1,7 @@
 package com.peliQAn.framework.stepdefinitions;
 
 import com.peliQAn.framework.pages.basic.AllElementsPage;
+import com.peliQAn.framework.utils.DomSnapshot;
 import com.peliQAn.framework.utils.NetworkUtils;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
@@ -41,8 +42,8 @@ public class NetworkThrottlingSteps {
     
     @Then("I should see the loading indicator")
     public void iShouldSeeTheLoadingIndicator() {
-        boolean isLoadingIndicatorVisible = allElementsPage.isLoadingIndicatorVisible();
-        Assert.assertTrue(isLoadingIndicatorVisible, "Loading indicator should be visible");
+        DomSnapshot snapshot = allElementsPage.snapshot();
+        Assert.assertTrue(snapshot.isVisible(AllElementsPage.LOADING_SELECTOR), "Loading indicator should be visible");
         log.info("Loading indicator is visible");
     }
     
@@ -54,8 +55,11 @@ public class NetworkThrottlingSteps {
         loadTimeWithThrottling = endTime - startTime;
         
         // Verify data loaded
-        int dataItemsCount = allElementsPage.getDataItemsCount();
-        Assert.assertTrue(dataItemsCount > 0, "At least one data item should be loaded");
+        DomSnapshot snapshot = allElementsPage.snapshot();
+        Assert.assertTrue(snapshot.countVisible(AllElementsPage.DATA_ITEM_SELECTOR) > 0,
+                "At least one data item should be loaded");
+        Assert.assertFalse(snapshot.isVisible(AllElementsPage.LOADING_SELECTOR),
+                "Loading indicator should be gone once data is loaded");
         
         // Reasonable time for throttled connection (adjust as needed)
         Assert.assertTrue(loadTimeWithThrottling > 1000, 
@@ -88,8 +92,11 @@ public class NetworkThrottlingSteps {
         loadTimeWithoutThrottling = endTime - startTime;
         
         // Verify data loaded
-        int dataItemsCount = allElementsPage.getDataItemsCount();
-        Assert.assertTrue(dataItemsCount > 0, "At least one data item should be loaded");
+        DomSnapshot snapshot = allElementsPage.snapshot();
+        Assert.assertTrue(snapshot.countVisible(AllElementsPage.DATA_ITEM_SELECTOR) > 0,
+                "At least one data item should be loaded");
+        Assert.assertFalse(snapshot.isVisible(AllElementsPage.LOADING_SELECTOR),
+                "Loading indicator should be gone once data is loaded");
         
         // Compare load times
         log.info("Load time without throttling: {} ms", loadTimeWithoutThrottling);
@@ -62,11 +62,10 @@ public class TimeWarpSteps {
 
     @Then("the validation should be successful")
     public void theValidationShouldBeSuccessful() {
-        boolean isSuccessful = timeWarpPage.isValidationSuccessful();
-        Assert.assertTrue(isSuccessful, "Solution validation should be successful");
-        
-        String message = timeWarpPage.getValidationResultMessage();
-        Assert.assertTrue(message.contains("successfully"), "Message should indicate success");
+        timeWarpPage.softAssertions()
+                .isVisible(".challenge-success")
+                .containsText(".challenge-success", "successfully")
+                .assertAll();
     }
     
     @And("I reset the browser time and timezone")
@@ -15,7 +15,7 @@ Feature: Treasure API Operations
 
   @api
   Scenario: Get a specific treasure
-    Given there is a treasure with the following details:
+    Given there is a shared treasure with the following details:
       | name        | Golden Compass      |
       | value       | 1000               |
       | description | A magical compass   |
@@ -43,12 +43,7 @@ Feature: Treasure API Operations
 
   @api
   Scenario: Update a treasure
-    Given there is a treasure with the following details:
-      | name        | Bronze Statue      |
-      | value       | 300                |
-      | description | An ancient statue  |
-      | location    | Hidden Cave        |
-      | discovered  | false              |
+    Given there is a mutable treasure fixture
     When I send a PUT request to "/treasures/{id}" with the treasure id and body:
       """
       {
@@ -66,12 +61,7 @@ Feature: Treasure API Operations
 
   @api
   Scenario: Delete a treasure
-    Given there is a treasure with the following details:
-      | name        | Rusty Key         |
-      | value       | 50                |
-      | description | An old rusty key  |
-      | location    | Abandoned Ship    |
-      | discovered  | true              |
+    Given there is a mutable treasure fixture
     When I send a DELETE request to "/treasures/{id}" with the treasure id
     Then I should receive a 204 status code
     When I send a GET request to "/treasures/{id}" with the treasure id
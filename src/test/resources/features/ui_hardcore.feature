@@ -19,6 +19,7 @@ Feature: Hardcore UI Challenges
   Scenario: Complete Multi-Window Treasure Hunt
     Given I am on the "multi-window" challenge page
     When I start the treasure hunt
+    And the window registry should use the browser's event transport
     And I navigate through all treasure windows collecting clues
     And I solve the final puzzle with the collected clues
     Then I should receive a treasure hunt completion code